@@ -0,0 +1,40 @@
+package com.projectmanagementapi.benchmark;
+
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Builds realistic-looking projects and tasks for the benchmarks
+final class BenchmarkData {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    static Project project(long id, int taskCount) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        project.setDescription("Benchmark project " + id + " with " + taskCount + " tasks");
+        project.getTasks().addAll(tasks(project, taskCount));
+        return project;
+    }
+
+    static List<Task> tasks(Project project, int taskCount) {
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setTitle("Task " + i + " - implement feature");
+            task.setDescription("Description of task " + i + ": investigate, implement, review and ship the change");
+            task.setStatus(STATUSES[i % STATUSES.length]);
+            task.setProject(project);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
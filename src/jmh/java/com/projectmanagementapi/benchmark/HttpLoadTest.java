@@ -0,0 +1,132 @@
+package com.projectmanagementapi.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Closed-loop HTTP load generator: keeps a fixed number of requests in flight against a running instance
+// and reports throughput and latency percentiles. Used to compare platform-thread and virtual-thread modes.
+//
+// mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.projectmanagementapi.benchmark.HttpLoadTest \
+//     -Djmh.args="--url=http://localhost:8080/projects/1/tasks --concurrency=2000 --duration=30"
+public class HttpLoadTest {
+
+    // 100 microsecond buckets up to 10 seconds, slower responses land in the last bucket
+    private static final long BUCKET_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int BUCKETS = 100_000;
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final AtomicLongArray latencies = new AtomicLongArray(BUCKETS);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile boolean recording;
+    private volatile long deadline;
+
+    private HttpLoadTest(URI uri) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parse(args);
+        URI uri = URI.create(options.getOrDefault("url", "http://localhost:8080/projects/1/tasks"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "2000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+
+        System.out.printf("Load test: %s, concurrency=%d, warmup=%ds, duration=%ds%n",
+                uri, concurrency, warmupSeconds, durationSeconds);
+        new HttpLoadTest(uri).run(concurrency, warmupSeconds, durationSeconds);
+    }
+
+    private void run(int concurrency, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            sendNext(finished);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        recording = true;
+        finished.await();
+
+        report(durationSeconds);
+    }
+
+    private void sendNext(CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+
+        long sentAt = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (recording) {
+                        if (error != null || response.statusCode() >= 400) {
+                            errors.increment();
+                        } else {
+                            record(System.nanoTime() - sentAt);
+                        }
+                    }
+                    sendNext(finished);
+                });
+    }
+
+    private void record(long nanos) {
+        int bucket = (int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1);
+        latencies.incrementAndGet(bucket);
+        completed.increment();
+    }
+
+    private void report(int durationSeconds) {
+        long total = completed.sum();
+        System.out.printf("Requests: %d ok, %d errors%n", total, errors.sum());
+        System.out.printf("Throughput: %.1f req/s%n", (double) total / durationSeconds);
+        System.out.printf("Latency ms: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f%n",
+                percentile(total, 0.50), percentile(total, 0.90),
+                percentile(total, 0.99), percentile(total, 0.999));
+    }
+
+    private double percentile(long total, double percentile) {
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += latencies.get(i);
+            if (seen >= target && target > 0) {
+                return (i + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return 0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,112 @@
+package com.projectmanagementapi.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the per-read logging in getTaskById on the calling thread.
+// before: two INFO lines through a synchronous appender (the old default) or the async appender
+// after:  one DEBUG line behind isDebugEnabled() with the logger at INFO (the current code)
+// sink "null" discards the output, "file" writes to a temporary file with a flush per event like the console appender,
+// so the sync numbers include the write system call the request thread pays without the async appender.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    // Same layout as Spring Boot's console pattern
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    @Param({"null", "file"})
+    private String sink;
+
+    private LoggerContext context;
+    private Path logFile;
+    private Logger log;
+    private long taskId = 1_000;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> console;
+        if (sink.equals("file")) {
+            logFile = Files.createTempFile("logging-benchmark", ".log");
+            FileAppender<ILoggingEvent> file = new FileAppender<>();
+            file.setFile(logFile.toString());
+            console = file;
+        } else {
+            console = new OutputStreamAppender<>();
+            console.setOutputStream(OutputStream.nullOutputStream());
+        }
+        console.setContext(context);
+        console.setEncoder(encoder);
+        console.start();
+
+        Appender<ILoggingEvent> root = console;
+        if (appender.equals("async")) {
+            // The configuration logback-spring.xml used before it went back to the synchronous console
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(console);
+            async.start();
+            root = async;
+        }
+
+        log = context.getLogger("com.projectmanagementapi.service.TaskService");
+        log.setLevel(ch.qos.logback.classic.Level.INFO);
+        log.setAdditive(false);
+        log.addAppender(root);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        if (logFile != null) {
+            Files.delete(logFile);
+        }
+    }
+
+    @Benchmark
+    public void infoBefore() {
+        long id = taskId++;
+        log.info("Fetching task with id={}", id);
+        log.info("Task with id={} retrieved successfully", id);
+    }
+
+    @Benchmark
+    public void debugGuardedAfter() {
+        long id = taskId++;
+        if (log.isDebugEnabled()) {
+            log.debug("Task with id={} retrieved successfully", id);
+        }
+    }
+}
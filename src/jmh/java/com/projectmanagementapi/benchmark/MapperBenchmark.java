@@ -0,0 +1,42 @@
+package com.projectmanagementapi.benchmark;
+
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.mapper.ProjectMapper;
+import com.projectmanagementapi.mapper.TaskMapper;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int taskCount;
+
+    private Project project;
+    private Task task;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        project = BenchmarkData.project(1L, taskCount);
+        task = project.getTasks().get(0);
+    }
+
+    @Benchmark
+    public ProjectResponseDto projectToDto() {
+        return ProjectMapper.toDto(project);
+    }
+
+    @Benchmark
+    public TaskResponseDto taskToDto() {
+        return TaskMapper.toDto(task);
+    }
+}
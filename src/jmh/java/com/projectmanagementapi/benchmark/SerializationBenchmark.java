@@ -0,0 +1,45 @@
+package com.projectmanagementapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.mapper.TaskMapper;
+import com.projectmanagementapi.model.Project;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    // Same builder Spring Boot uses for the MVC message converters
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private PagedResponse<TaskResponseDto> page;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Project project = BenchmarkData.project(1L, 0);
+        List<TaskResponseDto> items = BenchmarkData.tasks(project, pageSize)
+                .stream()
+                .map(TaskMapper::toDto)
+                .toList();
+        page = new PagedResponse<>(items, 0, pageSize, 100_000L);
+    }
+
+    @Benchmark
+    public byte[] serializePagedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,72 @@
+package com.projectmanagementapi.benchmark;
+
+import com.projectmanagementapi.ProjectManagementApiApplication;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.service.ProjectService;
+import com.projectmanagementapi.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Creates batchSize tasks with one TaskService.createTasks call (one transaction, batched inserts) versus
+// batchSize createTask calls (a transaction, counter update and insert each). Separate from TaskServiceBenchmark,
+// whose taskCount/page/size parameters would multiply these runs
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskCreateBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long projectId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ProjectManagementApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.projectmanagementapi=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        Project project = new Project();
+        project.setName("Benchmark");
+        project.setDescription("Task create benchmark project");
+        projectId = context.getBean(ProjectService.class).createProject(project).id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Long> createTasksBulk() {
+        return taskService.createTasks(projectId, newTasks());
+    }
+
+    @Benchmark
+    public void createTaskEach(Blackhole blackhole) {
+        for (Task task : newTasks()) {
+            blackhole.consume(taskService.createTask(projectId, task));
+        }
+    }
+
+    // New entities on every call, saved tasks get their ids assigned
+    private List<Task> newTasks() {
+        List<Task> tasks = BenchmarkData.tasks(null, batchSize);
+        tasks.forEach(task -> task.setId(null));
+        return tasks;
+    }
+}
@@ -0,0 +1,73 @@
+package com.projectmanagementapi.benchmark;
+
+import com.projectmanagementapi.ProjectManagementApiApplication;
+import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.service.ProjectService;
+import com.projectmanagementapi.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Runs TaskService against the embedded H2 database, seeded through the bulk create path
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int SEED_CHUNK = 1_000;
+
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    @Param({"0", "90"})
+    private int page;
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long projectId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ProjectManagementApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.projectmanagementapi=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        Project project = new Project();
+        project.setName("Benchmark");
+        project.setDescription("Seeded benchmark project");
+        ProjectResponseDto created = context.getBean(ProjectService.class).createProject(project);
+        projectId = created.id();
+
+        List<Task> tasks = BenchmarkData.tasks(null, taskCount);
+        tasks.forEach(task -> task.setId(null));
+        for (int from = 0; from < tasks.size(); from += SEED_CHUNK) {
+            taskService.createTasks(projectId, tasks.subList(from, Math.min(from + SEED_CHUNK, tasks.size())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PagedResponse<TaskResponseDto> getTasksForProject() {
+        return taskService.getTasksForProject(projectId, page, size);
+    }
+}
@@ -0,0 +1,51 @@
+package com.projectmanagementapi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sampled access log: one line per logged request on the com.projectmanagementapi.access logger.
+// Server errors and slow requests are always logged, everything else with probability sampleRate
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String LOGGER_NAME = "com.projectmanagementapi.access";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(double sampleRate, long slowThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int status = response.getStatus();
+
+            boolean always = status >= 500 || elapsed >= slowThresholdNanos;
+            if (log.isInfoEnabled()
+                    && (always || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate))) {
+                log.info("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.projectmanagementapi.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+// Two cache layers: Spring's caffeine caches (TASKS, PROJECTS) hold response DTOs, the Hibernate second-level
+// cache (hibernate-jcache.conf) holds entity state, collections and query results underneath the repositories
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS = "tasks";
+    public static final String PROJECTS = "projects";
+
+    // Classpath URI so the region config is also found when running from the packaged jar
+    private static final URI SECOND_LEVEL_CACHE_CONFIG = URI.create("classpath:hibernate-jcache.conf");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(SECOND_LEVEL_CACHE_CONFIG, CacheConfig.class.getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
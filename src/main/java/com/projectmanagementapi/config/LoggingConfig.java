@@ -0,0 +1,18 @@
+package com.projectmanagementapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Appender setup (synchronous console) lives in logback-spring.xml
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(
+            @Value("${app.logging.access.sample-rate:0.01}") double sampleRate,
+            @Value("${app.logging.access.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        return new FilterRegistrationBean<>(new AccessLogFilter(sampleRate, slowThresholdMillis));
+    }
+}
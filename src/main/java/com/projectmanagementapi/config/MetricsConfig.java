@@ -0,0 +1,40 @@
+package com.projectmanagementapi.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Service timers (@Timed), per-request SQL statement counts. HTTP, HikariCP, Hibernate and Spring Data
+// repository metrics are bound by Spring Boot, see the management.* settings in application.properties
+@Configuration
+public class MetricsConfig {
+
+    // Metric name of the class level @Timed on the services, tagged with class and method
+    public static final String SERVICE_TIMER = "app.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(StatementCounter statementCounter,
+                                                                             MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new StatementCountFilter(statementCounter, meterRegistry));
+    }
+}
@@ -0,0 +1,95 @@
+package com.projectmanagementapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagementapi.controller.ReactiveReadRoutes;
+import com.projectmanagementapi.repository.ReactiveReadRepository;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Reactive read API: WebFlux routes on their own Netty server (ReactiveReadServer) over R2DBC.
+// The application itself stays a servlet application, so this context only gets the beans declared here:
+// there is no R2DBC transaction manager (it would compete with the JPA one) and no Spring Data R2DBC.
+@Configuration
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveReadConfig {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    // R2DBC connections to the database behind the JDBC pool. The URL is read from a live connection so the
+    // generated name of the embedded in-memory database is picked up as well; the JDBC pool keeps it open.
+    // Only the DatabaseClient is a bean: Spring Boot does not configure the JDBC DataSource when it finds a
+    // ConnectionFactory bean.
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(DataSource dataSource,
+                                                 DataSourceProperties dataSourceProperties,
+                                                 @Value("${app.reactive.pool-size:10}") int poolSize)
+            throws SQLException {
+        String jdbcUrl;
+        try (Connection connection = dataSource.getConnection()) {
+            jdbcUrl = connection.getMetaData().getURL();
+        }
+        if (!jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("The reactive read API only supports H2, the datasource is " + jdbcUrl
+                    + ". Set app.reactive.enabled=false to run without it");
+        }
+
+        H2ConnectionConfiguration configuration = H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername())
+                .password(dataSourceProperties.determinePassword())
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(new H2ConnectionFactory(configuration))
+                .maxSize(poolSize)
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    // Closes the R2DBC pool behind reactiveDatabaseClient on shutdown
+    @Bean
+    public DisposableBean reactiveConnectionPoolShutdown(DatabaseClient reactiveDatabaseClient) {
+        return ((ConnectionPool) reactiveDatabaseClient.getConnectionFactory())::dispose;
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(DatabaseClient reactiveDatabaseClient,
+                                                             ObjectMapper objectMapper) {
+        return new ReactiveReadRoutes(new ReactiveReadRepository(reactiveDatabaseClient), objectMapper).routes();
+    }
+
+    // Same ObjectMapper as the MVC endpoints, so both servers render the DTOs identically
+    @Bean
+    public HandlerStrategies reactiveHandlerStrategies(ObjectMapper objectMapper) {
+        return HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(RouterFunction<ServerResponse> reactiveReadRoutes,
+                                                 HandlerStrategies reactiveHandlerStrategies,
+                                                 @Value("${app.reactive.port:8081}") int port) {
+        return new ReactiveReadServer(reactiveReadRoutes, reactiveHandlerStrategies, port);
+    }
+}
@@ -0,0 +1,58 @@
+package com.projectmanagementapi.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+// Netty server for the reactive read routes. It follows the servlet server: started once Tomcat is up, so it never
+// starts in tests using a mock servlet environment, and stopped with the application context.
+public class ReactiveReadServer implements ApplicationListener<ServletWebServerInitializedEvent>, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final RouterFunction<ServerResponse> routes;
+    private final HandlerStrategies handlerStrategies;
+    private final int port;
+
+    private WebServer webServer;
+
+    public ReactiveReadServer(RouterFunction<ServerResponse> routes, HandlerStrategies handlerStrategies, int port) {
+        this.routes = routes;
+        this.handlerStrategies = handlerStrategies;
+        this.port = port;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(ServletWebServerInitializedEvent event) {
+        // Ignore child contexts such as a separate management server
+        if (webServer != null || event.getApplicationContext().getServerNamespace() != null) {
+            return;
+        }
+
+        webServer = new NettyReactiveWebServerFactory(port)
+                .getWebServer(RouterFunctions.toHttpHandler(routes, handlerStrategies));
+        webServer.start();
+        log.info("Reactive read API started on port {}", webServer.getPort());
+    }
+
+    // Actual port, useful when app.reactive.port=0
+    public synchronized int getPort() {
+        return webServer != null ? webServer.getPort() : -1;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (webServer != null) {
+            webServer.stop();
+            webServer = null;
+        }
+    }
+}
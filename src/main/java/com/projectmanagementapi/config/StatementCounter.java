@@ -0,0 +1,29 @@
+package com.projectmanagementapi.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the SQL statements Hibernate prepares on the current thread while a count is open (one HTTP request,
+// see StatementCountFilter). Statements outside an open count, e.g. on async threads, are not counted
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = new ThreadLocal<>();
+
+    void start() {
+        count.set(new long[1]);
+    }
+
+    long stop() {
+        long[] current = count.get();
+        count.remove();
+        return current == null ? 0 : current[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+}
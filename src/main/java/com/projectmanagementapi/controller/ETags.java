@@ -0,0 +1,32 @@
+package com.projectmanagementapi.controller;
+
+import com.projectmanagementapi.exception.PreconditionFailedException;
+
+// Strong ETags derived from entity versions: version 3 is sent as "3"
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Expected version from an If-Match header, null when the header is absent or "*".
+    // If-Match uses strong comparison, so weak or foreign tags can never match
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match " + tag + " does not match the current version");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match " + tag + " does not match the current version");
+        }
+    }
+}
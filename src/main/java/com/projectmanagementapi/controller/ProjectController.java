@@ -1,22 +1,37 @@
 package com.projectmanagementapi.controller;
+import com.projectmanagementapi.dto.CountMode;
 import com.projectmanagementapi.dto.PagedResponse;
 import com.projectmanagementapi.dto.ProjectRequestDto;
 import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.ProjectSummaryDto;
+import com.projectmanagementapi.dto.SyncResponseDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
 import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.service.ChangeFeedService;
 import com.projectmanagementapi.service.ProjectService;
+import com.projectmanagementapi.service.SyncService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/projects")
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ChangeFeedService changeFeedService;
+    private final SyncService syncService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService,
+                             ChangeFeedService changeFeedService,
+                             SyncService syncService) {
         this.projectService = projectService;
+        this.changeFeedService = changeFeedService;
+        this.syncService = syncService;
     }
 
     // Creating a new project
@@ -30,18 +45,66 @@ public class ProjectController {
     // Fetching a project by unique id
     // -------------------------------------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponseDto> getProject(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+    public ResponseEntity<ProjectResponseDto> getProject(@PathVariable Long id, WebRequest request) {
+        // Revalidation only reads the version column, a 304 never loads the project or its tasks
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.of(projectService.getProjectVersion(id)))) {
+            return null;
+        }
+
+        ProjectResponseDto project = projectService.getProjectById(id);
+        return ResponseEntity.ok().eTag(ETags.of(project.version())).body(project);
     }
 
-    // Fetching all projects, paginated
+    // Fetching all projects, paginated. count=ESTIMATED takes the total from the table statistics,
+    // count=NONE only returns hasNext
     // -------------------------------------------------------
     @GetMapping
     public ResponseEntity<PagedResponse<ProjectResponseDto>> getAllProjects(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") CountMode count
+    ) {
+        return ResponseEntity.ok(projectService.getAllProjects(page, size, count));
+    }
+
+    // Fetching a lightweight summary of all projects (task counts only), paginated
+    // -------------------------------------------------------
+    @GetMapping("/summary")
+    public ResponseEntity<PagedResponse<ProjectSummaryDto>> getProjectSummaries(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(projectService.getAllProjects(page, size));
+        return ResponseEntity.ok(projectService.getProjectSummaries(page, size));
+    }
+
+    // Fetching the per-status task counters of a project
+    // -------------------------------------------------------
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<TaskStatsDto> getTaskStats(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.getTaskStats(id));
+    }
+
+    // Subscribing to the changes of a project and its tasks (Server-Sent Events, text/event-stream).
+    // A reconnecting client sends Last-Event-ID and gets the events it missed, or RESYNC when they are gone
+    // -------------------------------------------------------
+    @GetMapping("/{id}/changes")
+    public SseEmitter subscribeToChanges(
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return changeFeedService.subscribe(id, lastEventId);
+    }
+
+    // Delta sync: the project and tasks changed after revision since, and the ids of deleted tasks.
+    // Start with since=0 and send the returned revision next time
+    // -------------------------------------------------------
+    @GetMapping("/{id}/sync")
+    public ResponseEntity<SyncResponseDto> syncProject(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") long since
+    ) {
+        return ResponseEntity.ok(syncService.getChangesSince(id, since));
     }
 
     //Updating an existing project
@@ -49,10 +112,15 @@ public class ProjectController {
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponseDto> updateProject(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProjectRequestDto projectRequestDto
     ) {
-        ProjectResponseDto updated = projectService.updateProject(id, new Project(projectRequestDto));
-        return ResponseEntity.ok(updated);
+        ProjectResponseDto updated = projectService.updateProject(
+                id,
+                new Project(projectRequestDto),
+                ETags.expectedVersion(ifMatch)
+        );
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated);
     }
 
     // Deleting a project by unique id
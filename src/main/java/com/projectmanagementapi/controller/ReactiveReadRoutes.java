@@ -0,0 +1,215 @@
+package com.projectmanagementapi.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.ErrorResponse;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ReactiveReadRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+// Non-blocking twins of the MVC read endpoints, served by the reactive server on app.reactive.port.
+// Same paths, parameters, DTOs and error format as TaskController / ProjectController.
+// Pages are written to the client item by item as the rows arrive, a page is never collected in memory first.
+public class ReactiveReadRoutes {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadRoutes.class);
+
+    // Same cap as the MVC search and scroll endpoints
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReactiveReadRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveReadRoutes(ReactiveReadRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/tasks/{taskId}", deferred(this::getTask))
+                .GET("/projects/{projectId}/tasks", deferred(this::getTasksForProject))
+                .GET("/projects", deferred(this::getAllProjects))
+                .onError(ResourceNotFoundException.class, (ex, request) -> {
+                    log.warn("Resource not found: {}", ex.getMessage());
+                    return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+                })
+                .onError(BadRequestException.class, (ex, request) -> {
+                    log.warn("Bad request: {}", ex.getMessage());
+                    return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+                })
+                // Error filters are tried in registration order, the catch-all must come last
+                .onError(ex -> true, (ex, request) -> {
+                    log.error("Unexpected server error", ex);
+                    return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
+                })
+                .build();
+    }
+
+    // Fetch task by id
+    // -------------------------------------------------------
+    private Mono<ServerResponse> getTask(ServerRequest request) {
+        Long taskId = longPathVariable(request, "taskId");
+        return repository.findTaskById(taskId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id " + taskId)))
+                .flatMap(task -> ServerResponse.ok().eTag(ETags.of(task.version())).bodyValue(task));
+    }
+
+    // Fetch tasks under project specified by id, optionally filtered by status.
+    // Accept: application/x-ndjson streams every matching task (no paging), one JSON object per line,
+    // read from the database as fast as the client consumes them
+    // -------------------------------------------------------
+    private Mono<ServerResponse> getTasksForProject(ServerRequest request) {
+        Long projectId = longPathVariable(request, "projectId");
+        TaskStatus status = request.queryParam("status").map(ReactiveReadRoutes::parseStatus).orElse(null);
+
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return requireProject(projectId).then(ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(repository.findTasksByProject(projectId, status, 0, null), TaskResponseDto.class));
+        }
+
+        int page = intQueryParam(request, "page", 0);
+        int size = intQueryParam(request, "size", 10);
+        validatePage(page, size);
+
+        // The 404 has to be decided before the first task is written, so the project is always checked
+        return requireProject(projectId).then(pagedJson(
+                repository.findTasksByProject(projectId, status, (long) page * size, size),
+                repository.countTasksByProject(projectId, status),
+                page, size));
+    }
+
+    // Fetch all projects with their tasks, paginated.
+    // Accept: application/x-ndjson streams every project (no paging), one JSON object per line
+    // -------------------------------------------------------
+    private Mono<ServerResponse> getAllProjects(ServerRequest request) {
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(repository.findProjects(0, null), ProjectResponseDto.class);
+        }
+
+        int page = intQueryParam(request, "page", 0);
+        int size = intQueryParam(request, "size", 10);
+        validatePage(page, size);
+
+        return pagedJson(repository.findProjects((long) page * size, size), repository.countProjects(), page, size);
+    }
+
+    // Helper functions
+    // -------------------------------------------------------------------------
+
+    // Parameter validation throws, deferring turns that into an error signal the onError filters can map
+    private static HandlerFunction<ServerResponse> deferred(HandlerFunction<ServerResponse> handler) {
+        return request -> Mono.defer(() -> handler.handle(request));
+    }
+
+    // The JSON of a PagedResponse with a total, written item by item. The count runs after the last item, so like the
+    // two queries of the MVC endpoint it may already include a write the items do not. Once the first bytes are
+    // sent the status is 200, a later failure can only abort the response
+    private Mono<ServerResponse> pagedJson(Flux<?> items, Mono<Long> total, int page, int size) {
+        Flux<DataBuffer> body = Flux.concat(
+                Mono.fromSupplier(() -> buffer("{\"items\":[".getBytes(StandardCharsets.UTF_8))),
+                items.index().map(item -> buffer(json(item.getT1() > 0, item.getT2()))),
+                total.map(count -> buffer(("],\"page\":" + page + ",\"size\":" + size + ",\"total\":" + count + "}")
+                        .getBytes(StandardCharsets.UTF_8))));
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+
+    private byte[] json(boolean separator, Object item) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(item);
+            if (!separator) {
+                return json;
+            }
+            byte[] separated = new byte[json.length + 1];
+            separated[0] = ',';
+            System.arraycopy(json, 0, separated, 1, json.length);
+            return separated;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DataBuffer buffer(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private Mono<Void> requireProject(Long projectId) {
+        return repository.existsProject(projectId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new ResourceNotFoundException("Project not found with id " + projectId)));
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message, ServerRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                message,
+                "uri=" + request.path()
+        );
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(error);
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static TaskStatus parseStatus(String value) {
+        try {
+            return TaskStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid value '" + value + "' for parameter 'status'");
+        }
+    }
+
+    private static Long longPathVariable(ServerRequest request, String name) {
+        String value = request.pathVariable(name);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid value '" + value + "' for parameter '" + name + "'");
+        }
+    }
+
+    private static int intQueryParam(ServerRequest request, String name, int defaultValue) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid value '" + value + "' for parameter '" + name + "'");
+        }
+    }
+}
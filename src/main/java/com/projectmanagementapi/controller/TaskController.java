@@ -1,22 +1,54 @@
 package com.projectmanagementapi.controller;
+import com.projectmanagementapi.dto.CountMode;
 import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.ProjectTaskStatusRequestDto;
+import com.projectmanagementapi.dto.TaskImportResultDto;
+import com.projectmanagementapi.dto.TaskBulkRequestDto;
 import com.projectmanagementapi.dto.TaskRequestDTo;
 import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.dto.TaskSearchHitDto;
+import com.projectmanagementapi.dto.TaskStatusBulkRequestDto;
+import com.projectmanagementapi.dto.TaskStatusBulkResponseDto;
 import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.service.TaskExportService;
+import com.projectmanagementapi.service.TaskImportService;
+import com.projectmanagementapi.service.TaskSearchService;
 import com.projectmanagementapi.service.TaskService;
+import com.projectmanagementapi.service.TaskWriteBehindQueue;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskWriteBehindQueue taskWriteBehindQueue;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskExportService taskExportService,
+                          TaskImportService taskImportService,
+                          TaskSearchService taskSearchService,
+                          TaskWriteBehindQueue taskWriteBehindQueue) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskSearchService = taskSearchService;
+        this.taskWriteBehindQueue = taskWriteBehindQueue;
     }
 
     // Create a new task under project specified by id
@@ -30,33 +62,158 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    // Create many tasks under project specified by id, returns the created ids in request order
+    // -------------------------------------------------------
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<List<Long>> createTasks(
+            @PathVariable Long projectId,
+            @Valid @RequestBody TaskBulkRequestDto taskBulkRequestDto
+    ) {
+        List<Task> tasks = taskBulkRequestDto.tasks()
+                .stream()
+                .map(Task::new)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(projectId, tasks));
+    }
+
+    // Import tasks under project specified by id from an NDJSON body (one task per line), streamed
+    // -------------------------------------------------------
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskImportResultDto> importTasksNdjson(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Integer chunkSize,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(
+                taskImportService.importTasks(projectId, body, TaskImportService.Format.NDJSON, chunkSize));
+    }
+
+    // Import tasks under project specified by id from a CSV body (title,description,status), streamed
+    // -------------------------------------------------------
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = "text/csv")
+    public ResponseEntity<TaskImportResultDto> importTasksCsv(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Integer chunkSize,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(
+                taskImportService.importTasks(projectId, body, TaskImportService.Format.CSV, chunkSize));
+    }
+
     // Fetch task by unique id
     // -------------------------------------------------------
     @GetMapping("/tasks/{taskId}")
-    public ResponseEntity<TaskResponseDto> getTask(@PathVariable Long taskId) {
-        return ResponseEntity.ok(taskService.getTaskById(taskId));
+    public ResponseEntity<TaskResponseDto> getTask(@PathVariable Long taskId, WebRequest request) {
+        // Revalidation only reads the version column, a 304 never loads, maps or serialises the task
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.of(taskService.getTaskVersion(taskId)))) {
+            return null;
+        }
+
+        TaskResponseDto task = taskService.getTaskById(taskId);
+        return ResponseEntity.ok().eTag(ETags.of(task.version())).body(task);
+    }
+
+    // Full-text search over task titles and descriptions, ranked by relevance
+    // -------------------------------------------------------
+    @GetMapping("/tasks/search")
+    public ResponseEntity<PagedResponse<TaskSearchHitDto>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(taskSearchService.searchTasks(q, page, size));
     }
 
-    // Fetch all tasks under project specified by id
+    // Fetch all tasks under project specified by id, optionally filtered by status and title prefix.
+    // count=ESTIMATED takes the total from the project's counters, count=NONE only returns hasNext
     // -------------------------------------------------------
     @GetMapping("/projects/{projectId}/tasks")
     public ResponseEntity<PagedResponse<TaskResponseDto>> getTasksForProject(
             @PathVariable Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String titlePrefix,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "EXACT") CountMode count
+    ) {
+        return ResponseEntity.ok(
+                taskService.getTasksForProject(projectId, status, titlePrefix, page, size, sort, count));
+    }
+
+    // Fetch tasks under project specified by id using an opaque cursor (keyset pagination)
+    // -------------------------------------------------------
+    @GetMapping("/projects/{projectId}/tasks/scroll")
+    public ResponseEntity<PagedResponse<TaskResponseDto>> scrollTasksForProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(taskService.getTasksForProject(projectId, page, size));
+        return ResponseEntity.ok(taskService.scrollTasksForProject(projectId, cursor, size, includeTotal));
+    }
+
+    // Stream all tasks under project specified by id as NDJSON (one task per line)
+    // -------------------------------------------------------
+    @GetMapping(value = "/projects/{projectId}/tasks/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable Long projectId) {
+        taskExportService.requireProject(projectId);
+        StreamingResponseBody body = out -> taskExportService.exportTasks(projectId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
-    // Update existing task specified by id
+    // Update existing task specified by id.
+    // In write-behind mode an unconditional update is only queued: 202 Accepted without a body,
+    // written within app.tasks.write-behind.flush-interval-ms. With If-Match it is always written synchronously
     // -------------------------------------------------------
     @PutMapping("/tasks/{taskId}")
     public ResponseEntity<TaskResponseDto> updateTask(
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequestDTo updatedTaskRequestDto
     ) {
-        TaskResponseDto updated = taskService.updateTask(taskId, new Task(updatedTaskRequestDto));
-        return ResponseEntity.ok(updated);
+        if (taskWriteBehindQueue.isEnabled() && ifMatch == null) {
+            taskWriteBehindQueue.submit(taskId, new Task(updatedTaskRequestDto));
+            return ResponseEntity.accepted().build();
+        }
+
+        TaskResponseDto updated = taskService.updateTask(
+                taskId,
+                new Task(updatedTaskRequestDto),
+                ETags.expectedVersion(ifMatch)
+        );
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated);
+    }
+
+    // Move a set of tasks specified by id to a new status
+    // -------------------------------------------------------
+    @PatchMapping("/tasks/status")
+    public ResponseEntity<TaskStatusBulkResponseDto> updateTaskStatuses(
+            @Valid @RequestBody TaskStatusBulkRequestDto taskStatusBulkRequestDto
+    ) {
+        int updated = taskService.updateTaskStatuses(
+                taskStatusBulkRequestDto.taskIds(),
+                taskStatusBulkRequestDto.status()
+        );
+        return ResponseEntity.ok(new TaskStatusBulkResponseDto(updated));
+    }
+
+    // Move the tasks of a project (optionally only those in a given status) to a new status
+    // -------------------------------------------------------
+    @PatchMapping("/projects/{projectId}/tasks/status")
+    public ResponseEntity<TaskStatusBulkResponseDto> updateProjectTaskStatuses(
+            @PathVariable Long projectId,
+            @Valid @RequestBody ProjectTaskStatusRequestDto projectTaskStatusRequestDto
+    ) {
+        int updated = taskService.updateProjectTaskStatuses(
+                projectId,
+                projectTaskStatusRequestDto.currentStatus(),
+                projectTaskStatusRequestDto.status()
+        );
+        return ResponseEntity.ok(new TaskStatusBulkResponseDto(updated));
     }
 
     // Delete task specified by id
@@ -0,0 +1,28 @@
+package com.projectmanagementapi.dto;
+
+// One event of a project's change feed (GET /projects/{id}/changes). The sequence is also the SSE event id.
+// data is the task for TASK_CREATED / TASK_UPDATED and the project summary for PROJECT_CREATED / PROJECT_UPDATED,
+// null otherwise
+public record ChangeEventDto(
+        long sequence,
+        Type type,
+        Long projectId,
+        Long taskId,
+        Long version,
+        Object data
+) {
+
+    public enum Type {
+        TASK_CREATED,
+        TASK_UPDATED,
+        TASK_DELETED,
+        // Many tasks changed at once (bulk create, import, bulk status change): reload the task list
+        TASKS_CHANGED,
+        PROJECT_CREATED,
+        PROJECT_UPDATED,
+        PROJECT_DELETED,
+        // Earlier events are not available (new subscription, or Last-Event-ID no longer buffered):
+        // reload the project, then apply the events that follow
+        RESYNC
+    }
+}
@@ -0,0 +1,11 @@
+package com.projectmanagementapi.dto;
+
+// How PagedResponse.total is filled for offset pages
+public enum CountMode {
+    // COUNT query next to the page query
+    EXACT,
+    // Maintained counters or table statistics, no COUNT over the rows
+    ESTIMATED,
+    // No total, one extra row is fetched to set hasNext
+    NONE
+}
@@ -1,14 +1,19 @@
 package com.projectmanagementapi.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResponse<T> {
 
     private List<T> items;
-    private int page;
+    private Integer page;
     private int size;
-    private long total;
+    private Long total;
+    private String nextCursor;
+    private Boolean hasNext;
 
     public PagedResponse(List<T> items, int page, int size, long total) {
         this.items = items;
@@ -17,11 +22,27 @@ public class PagedResponse<T> {
         this.total = total;
     }
 
+    // Cursor (keyset) based page - there is no page number, and the total is only present when requested
+    public PagedResponse(List<T> items, int size, Long total, String nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.total = total;
+        this.nextCursor = nextCursor;
+    }
+
+    // Page without a total count, only whether another page exists
+    public PagedResponse(List<T> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
     public List<T> getItems() {
         return items;
     }
 
-    public int getPage() {
+    public Integer getPage() {
         return page;
     }
 
@@ -29,7 +50,15 @@ public class PagedResponse<T> {
         return size;
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
-}
\ No newline at end of file
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+}
@@ -1,10 +1,15 @@
 package com.projectmanagementapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
+// version is sent as the ETag header, not in the body
 public record ProjectResponseDto(
         Long id,
         String name,
         String description,
-        List<TaskResponseDto> tasks
+        TaskStatsDto taskStats,
+        List<TaskResponseDto> tasks,
+        @JsonIgnore Long version
 ) { }
@@ -0,0 +1,10 @@
+package com.projectmanagementapi.dto;
+
+public record ProjectSummaryDto(
+        Long id,
+        String name,
+        String description,
+        Long todoCount,
+        Long inProgressCount,
+        Long doneCount
+) { }
@@ -0,0 +1,14 @@
+package com.projectmanagementapi.dto;
+
+import java.time.Instant;
+
+// Project as sent by delta sync: its own fields and counters, tasks are synced separately
+public record ProjectSyncDto(
+        Long id,
+        String name,
+        String description,
+        TaskStatsDto taskStats,
+        Long version,
+        long revision,
+        Instant lastModified
+) { }
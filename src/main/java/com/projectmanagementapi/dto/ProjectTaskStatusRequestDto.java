@@ -0,0 +1,14 @@
+package com.projectmanagementapi.dto;
+
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record ProjectTaskStatusRequestDto(
+
+        // Optional filter - when omitted every task of the project is moved
+        TaskStatus currentStatus,
+
+        @NotNull(message = "Target status is required")
+        TaskStatus status
+
+) {}
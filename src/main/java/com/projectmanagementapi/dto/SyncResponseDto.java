@@ -0,0 +1,13 @@
+package com.projectmanagementapi.dto;
+
+import java.util.List;
+
+// Changes of one project after a revision. revision is what to send as ?since= on the next sync.
+// project is null when it did not change, deleted means the project and all of its tasks are gone
+public record SyncResponseDto(
+        long revision,
+        boolean deleted,
+        ProjectSyncDto project,
+        List<TaskSyncDto> tasks,
+        List<Long> deletedTaskIds
+) { }
@@ -0,0 +1,15 @@
+package com.projectmanagementapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBulkRequestDto(
+
+        @NotEmpty(message = "Tasks list cannot be empty")
+        @Size(max = 1000, message = "At most 1000 tasks can be created per request")
+        List<@Valid TaskRequestDTo> tasks
+
+) {}
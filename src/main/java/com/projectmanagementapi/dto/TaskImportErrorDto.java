@@ -0,0 +1,6 @@
+package com.projectmanagementapi.dto;
+
+public record TaskImportErrorDto(
+        long line,
+        String message
+) { }
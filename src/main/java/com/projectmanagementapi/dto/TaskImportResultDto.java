@@ -0,0 +1,9 @@
+package com.projectmanagementapi.dto;
+
+import java.util.List;
+
+public record TaskImportResultDto(
+        long imported,
+        long failed,
+        List<TaskImportErrorDto> errors
+) { }
@@ -1,10 +1,14 @@
 package com.projectmanagementapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.projectmanagementapi.model.TaskStatus;
 
+// version is sent as the ETag header, not in the body
 public record TaskResponseDto(
         Long id,
         String title,
         String description,
-        TaskStatus status
-) { }
\ No newline at end of file
+        TaskStatus status,
+        Long projectId,
+        @JsonIgnore Long version
+) { }
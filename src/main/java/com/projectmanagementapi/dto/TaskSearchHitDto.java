@@ -0,0 +1,6 @@
+package com.projectmanagementapi.dto;
+
+public record TaskSearchHitDto(
+        TaskResponseDto task,
+        float score
+) { }
@@ -0,0 +1,13 @@
+package com.projectmanagementapi.dto;
+
+public record TaskStatsDto(
+        long todo,
+        long inProgress,
+        long done,
+        long total
+) {
+
+    public TaskStatsDto(long todo, long inProgress, long done) {
+        this(todo, inProgress, done, todo + inProgress + done);
+    }
+}
@@ -0,0 +1,19 @@
+package com.projectmanagementapi.dto;
+
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+public record TaskStatusBulkRequestDto(
+
+        @NotEmpty(message = "Task ids cannot be empty")
+        @Size(max = 1000, message = "At most 1000 tasks can be updated per request")
+        Set<Long> taskIds,
+
+        @NotNull(message = "Target status is required")
+        TaskStatus status
+
+) {}
@@ -0,0 +1,5 @@
+package com.projectmanagementapi.dto;
+
+public record TaskStatusBulkResponseDto(
+        int updated
+) { }
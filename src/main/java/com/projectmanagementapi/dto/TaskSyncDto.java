@@ -0,0 +1,16 @@
+package com.projectmanagementapi.dto;
+
+import com.projectmanagementapi.model.TaskStatus;
+
+import java.time.Instant;
+
+// Task as sent by delta sync. Unlike TaskResponseDto the version is in the body, as there is no per-task ETag header
+public record TaskSyncDto(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        Long version,
+        long revision,
+        Instant lastModified
+) { }
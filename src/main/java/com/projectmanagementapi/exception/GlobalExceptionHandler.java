@@ -6,7 +6,9 @@ import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
@@ -14,6 +16,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -63,6 +66,76 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // If-Match does not match the current version - 412
+    // -------------------------------------------------------------------------
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+            PreconditionFailedException ex, WebRequest request) {
+
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.PRECONDITION_FAILED,
+                ex.getMessage(),
+                request
+        );
+    }
+
+    // Concurrent modification detected by the version column - 409
+    // -------------------------------------------------------------------------
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, WebRequest request) {
+
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.CONFLICT,
+                "The resource was modified concurrently, reload it and retry",
+                request
+        );
+    }
+
+    // Server-side limit reached (e.g. change feed subscribers), the client may retry later - 503
+    // -------------------------------------------------------------------------
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        log.warn("Service unavailable: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage(),
+                request
+        );
+    }
+
+    // Invalid request parameters - 400
+    // -------------------------------------------------------------------------
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(
+            BadRequestException ex, WebRequest request) {
+
+        log.warn("Bad request: {}", ex.getMessage());
+        return buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                request
+        );
+    }
+
+    // Query or path parameter of the wrong type (e.g., invalid enum) - 400
+    // -------------------------------------------------------------------------
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(
+            MethodArgumentTypeMismatchException ex, WebRequest request) {
+
+        log.warn("Invalid value '{}' for parameter '{}'", ex.getValue(), ex.getName());
+        return buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'",
+                request
+        );
+    }
+
     // JSON parse errors - 400
     // -------------------------------------------------------------------------
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -122,7 +195,8 @@ public class GlobalExceptionHandler {
         );
     }
 
-    // Helper function
+    // Helper function. The body is always JSON, also for a client that only accepts text/event-stream (change feed):
+    // with the content type set there is no negotiation that could fail and turn the error into a 500
     // -------------------------------------------------------------------------
     private ResponseEntity<ErrorResponse> buildErrorResponse(
             HttpStatus status,
@@ -136,6 +210,8 @@ public class GlobalExceptionHandler {
                 request.getDescription(false)
         );
 
-        return new ResponseEntity<>(error, status);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error);
     }
 }
@@ -0,0 +1,9 @@
+package com.projectmanagementapi.exception;
+
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,20 +1,52 @@
 package com.projectmanagementapi.mapper;
 
 import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.ProjectSyncDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
 import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class ProjectMapper {
 
     public static ProjectResponseDto toDto(Project project) {
+        return toDto(project, project.getTasks());
+    }
+
+    // Maps a project using tasks that were fetched separately, so the lazy collection is never touched
+    public static ProjectResponseDto toDto(Project project, List<Task> tasks) {
         return new ProjectResponseDto(
                 project.getId(),
                 project.getName(),
                 project.getDescription(),
-                project.getTasks()
+                new TaskStatsDto(
+                        project.getTodoCount(),
+                        project.getInProgressCount(),
+                        project.getDoneCount()
+                ),
+                tasks
                         .stream()
                         .map(TaskMapper::toDto)
-                        .collect(Collectors.toList())
+                        .collect(Collectors.toList()),
+                project.getVersion()
+        );
+    }
+
+    public static ProjectSyncDto toSyncDto(Project project) {
+        return new ProjectSyncDto(
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                new TaskStatsDto(
+                        project.getTodoCount(),
+                        project.getInProgressCount(),
+                        project.getDoneCount()
+                ),
+                project.getVersion(),
+                project.getRevision(),
+                project.getLastModified()
         );
     }
-}
\ No newline at end of file
+}
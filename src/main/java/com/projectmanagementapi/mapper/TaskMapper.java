@@ -1,6 +1,7 @@
 package com.projectmanagementapi.mapper;
 
 import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.dto.TaskSyncDto;
 import com.projectmanagementapi.model.Task;
 
 public class TaskMapper {
@@ -10,7 +11,21 @@ public class TaskMapper {
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
-                task.getStatus()
+                task.getStatus(),
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getVersion()
         );
     }
-}
\ No newline at end of file
+
+    public static TaskSyncDto toSyncDto(Task task) {
+        return new TaskSyncDto(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getVersion(),
+                task.getRevision(),
+                task.getLastModified()
+        );
+    }
+}
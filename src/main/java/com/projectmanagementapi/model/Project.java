@@ -3,21 +3,53 @@ package com.projectmanagementapi.model;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.projectmanagementapi.dto.ProjectRequestDto;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.lang.NonNull;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+// Second-level cached (region sizes and TTLs in hibernate-jcache.conf). The counter UPDATEs in ProjectRepository
+// are bulk statements, so each task write evicts the whole Project region.
 @Entity
-@Table(name = "PROJECTS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "PROJECTS", indexes = @Index(name = "idx_projects_revision", columnList = "revision"))
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    // Optimistic lock and ETag source. Task writes bump it too (see ProjectRepository.adjustTaskCounts),
+    // because the project representation embeds its tasks and counters
+    @Version
+    private Long version;
+
     private String name;
     private String description;
 
+    // Denormalised per-status task counters. They are only changed through ProjectRepository
+    // (atomic increments in the same transaction as the task write), never by saving the entity.
+    @Column(nullable = false, updatable = false)
+    private long todoCount;
+
+    @Column(nullable = false, updatable = false)
+    private long inProgressCount;
+
+    @Column(nullable = false, updatable = false)
+    private long doneCount;
+
+    // Revision of the last write to the project or its counters (see RevisionSequence), for delta sync
+    @Column(nullable = false)
+    private long revision;
+
+    @UpdateTimestamp
+    private Instant lastModified;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonManagedReference
     private List<Task> tasks;
 
@@ -35,6 +67,10 @@ public class Project {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -47,10 +83,34 @@ public class Project {
         return tasks;
     }
 
+    public long getTodoCount() {
+        return todoCount;
+    }
+
+    public long getInProgressCount() {
+        return inProgressCount;
+    }
+
+    public long getDoneCount() {
+        return doneCount;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
     public void setId(Long id) {
         this.id = id;
     }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public void setName(String name) {
         this.name = name;
     }
@@ -59,4 +119,8 @@ public class Project {
         this.description = description;
     }
 
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
 }
@@ -3,20 +3,45 @@ package com.projectmanagementapi.model;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.projectmanagementapi.dto.TaskRequestDTo;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
-@Table(name = "TASKS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "TASKS", indexes = {
+        @Index(name = "idx_tasks_project_id", columnList = "project_id, id"),
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, task_status, id"),
+        @Index(name = "idx_tasks_project_title", columnList = "project_id, title"),
+        @Index(name = "idx_tasks_project_revision", columnList = "project_id, revision")
+})
 public class Task {
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock, also the source of the task's ETag
+    @Version
+    private Long version;
+
     private String title;
     private String description;
 
     @Enumerated(EnumType.STRING)
     private TaskStatus taskStatus;
 
+    // Revision of the last write (see RevisionSequence), what delta sync filters on
+    @Column(nullable = false)
+    private long revision;
+
+    @UpdateTimestamp
+    private Instant lastModified;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     @JsonBackReference
@@ -35,6 +60,10 @@ public class Task {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -51,11 +80,23 @@ public class Task {
         return project;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
 
     public void setId(Long id) {
         this.id = id;
     }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public void setTitle(String title) {
         this.title = title;
     }
@@ -71,4 +112,8 @@ public class Task {
     public void setProject(Project project) {
         this.project = project;
     }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
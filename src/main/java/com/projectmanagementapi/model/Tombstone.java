@@ -0,0 +1,82 @@
+package com.projectmanagementapi.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Marker left behind by a delete, so delta sync can tell clients what to remove.
+// A deleted project gets one tombstone (projectId = entityId), its tasks get none of their own
+@Entity
+@Table(name = "TOMBSTONES", indexes = {
+        @Index(name = "idx_tombstones_project_revision", columnList = "project_id, revision")
+})
+public class Tombstone {
+
+    public enum EntityType {
+        TASK,
+        PROJECT
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    protected Tombstone() {
+    }
+
+    private Tombstone(EntityType entityType, Long entityId, Long projectId, long revision) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+        this.revision = revision;
+        this.deletedAt = Instant.now();
+    }
+
+    public static Tombstone ofTask(Long taskId, Long projectId, long revision) {
+        return new Tombstone(EntityType.TASK, taskId, projectId, revision);
+    }
+
+    public static Tombstone ofProject(Long projectId, long revision) {
+        return new Tombstone(EntityType.PROJECT, projectId, projectId, revision);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
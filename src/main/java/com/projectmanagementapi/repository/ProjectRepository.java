@@ -1,8 +1,95 @@
 package com.projectmanagementapi.repository;
 
+import com.projectmanagementapi.dto.ProjectSummaryDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
 import com.projectmanagementapi.model.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // Page without the count query, size + 1 rows are fetched and the extra one only sets hasNext
+    Slice<Project> findSliceBy(Pageable pageable);
+
+    // Row count kept by H2 in its table metadata, no scan of PROJECTS
+    @Query(value = """
+            select ROW_COUNT_ESTIMATE from INFORMATION_SCHEMA.TABLES
+            where TABLE_SCHEMA = SCHEMA() and TABLE_NAME = 'PROJECTS'
+            """, nativeQuery = true)
+    long estimateCount();
+
+    // Reads the maintained per-status counters, Task rows are never touched
+    @Query(value = """
+            select new com.projectmanagementapi.dto.ProjectSummaryDto(
+                p.id, p.name, p.description, p.todoCount, p.inProgressCount, p.doneCount
+            )
+            from Project p
+            order by p.id
+            """,
+            countQuery = "select count(p) from Project p")
+    Page<ProjectSummaryDto> findAllSummaries(Pageable pageable);
+
+    // Returns the number of deleted rows, 0 means the project did not exist.
+    // The project's tasks must be deleted first (see TaskRepository.deleteTasksByProjectId)
+    @Transactional
+    @Modifying
+    @Query("delete from Project p where p.id = :id")
+    int deleteProjectById(Long id);
+
+    @Query("""
+            select new com.projectmanagementapi.dto.TaskStatsDto(p.todoCount, p.inProgressCount, p.doneCount)
+            from Project p
+            where p.id = :id
+            """)
+    Optional<TaskStatsDto> findTaskStats(Long id);
+
+    // Version only, for ETag revalidation without loading the project
+    @Query("select p.version from Project p where p.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    // Atomic increment of the task counters, returns 0 when the project does not exist.
+    // The row stays locked until commit, so concurrent task writes on a project are serialised here.
+    // Also bumps the project version and revision, so project ETags and delta sync see any task write
+    // (all deltas may be 0)
+    @Transactional
+    @Modifying
+    @Query("""
+            update versioned Project p set
+                p.todoCount = p.todoCount + :todo,
+                p.inProgressCount = p.inProgressCount + :inProgress,
+                p.doneCount = p.doneCount + :done,
+                p.revision = :revision,
+                p.lastModified = instant
+            where p.id = :projectId
+            """)
+    int adjustTaskCounts(Long projectId, long todo, long inProgress, long done, long revision);
+
+    // Recomputes the counters from the task rows, used after set-based updates whose deltas are unknown
+    @Transactional
+    @Modifying
+    @Query("""
+            update versioned Project p set
+                p.todoCount = (select count(t) from Task t where t.project.id = p.id
+                               and t.taskStatus = com.projectmanagementapi.model.TaskStatus.TODO),
+                p.inProgressCount = (select count(t) from Task t where t.project.id = p.id
+                                     and t.taskStatus = com.projectmanagementapi.model.TaskStatus.IN_PROGRESS),
+                p.doneCount = (select count(t) from Task t where t.project.id = p.id
+                               and t.taskStatus = com.projectmanagementapi.model.TaskStatus.DONE),
+                p.revision = :revision,
+                p.lastModified = instant
+            where p.id in :projectIds
+            """)
+    int recountTaskCounts(Collection<Long> projectIds, long revision);
+
+    @Query("select coalesce(max(p.revision), 0) from Project p")
+    long findMaxRevision();
+
 }
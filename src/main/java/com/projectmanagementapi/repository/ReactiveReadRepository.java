@@ -0,0 +1,154 @@
+package com.projectmanagementapi.repository;
+
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
+import com.projectmanagementapi.model.TaskStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Read-only queries for the reactive API (see ReactiveReadConfig). Plain SQL over R2DBC against the tables mapped by
+// Task and Project, rows are mapped straight to the response DTOs; nothing here goes through JPA or its caches.
+public class ReactiveReadRepository {
+
+    private static final String TASK_COLUMNS = "id, version, title, description, task_status, project_id";
+
+    // Projects whose tasks are loaded with one query while the projects are streamed
+    private static final int PROJECT_BATCH_SIZE = 100;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<TaskResponseDto> findTaskById(Long taskId) {
+        return databaseClient.sql("select " + TASK_COLUMNS + " from tasks where id = :taskId")
+                .bind("taskId", taskId)
+                .map(ReactiveReadRepository::toTask)
+                .one();
+    }
+
+    // A null limit streams every matching task, in id order
+    public Flux<TaskResponseDto> findTasksByProject(Long projectId, TaskStatus status, long offset, Integer limit) {
+        StringBuilder sql = new StringBuilder("select " + TASK_COLUMNS + " from tasks where project_id = :projectId");
+        if (status != null) {
+            sql.append(" and task_status = :status");
+        }
+        sql.append(" order by id");
+        if (limit != null) {
+            sql.append(" offset :offset rows fetch next :limit rows only");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("projectId", projectId);
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        if (limit != null) {
+            spec = spec.bind("offset", offset).bind("limit", limit);
+        }
+        return spec.map(ReactiveReadRepository::toTask).all();
+    }
+
+    public Mono<Long> countTasksByProject(Long projectId, TaskStatus status) {
+        String sql = "select count(*) from tasks where project_id = :projectId"
+                + (status != null ? " and task_status = :status" : "");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("projectId", projectId);
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        return spec.map(row -> row.get(0, Long.class)).one();
+    }
+
+    public Mono<Boolean> existsProject(Long projectId) {
+        return databaseClient.sql("select count(*) from projects where id = :projectId")
+                .bind("projectId", projectId)
+                .map(row -> row.get(0, Long.class) > 0)
+                .one();
+    }
+
+    // In id order. The tasks are loaded with one query per PROJECT_BATCH_SIZE projects, like
+    // ProjectService.getAllProjects does per page, and each batch is emitted once its tasks are there.
+    // A null limit streams every project
+    public Flux<ProjectResponseDto> findProjects(long offset, Integer limit) {
+        String sql = "select id, version, name, description, todo_count, in_progress_count, done_count"
+                + " from projects order by id"
+                + (limit != null ? " offset :offset rows fetch next :limit rows only" : "");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        if (limit != null) {
+            spec = spec.bind("offset", offset).bind("limit", limit);
+        }
+        return spec.map(ReactiveReadRepository::toProject)
+                .all()
+                .buffer(PROJECT_BATCH_SIZE)
+                .concatMap(projects -> findTasksByProjects(projects.stream().map(ProjectResponseDto::id).toList())
+                        .flatMapIterable(tasksByProject -> withTasks(projects, tasksByProject)));
+    }
+
+    public Mono<Long> countProjects() {
+        return databaseClient.sql("select count(*) from projects")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private Mono<Map<Long, List<TaskResponseDto>>> findTasksByProjects(Collection<Long> projectIds) {
+        return databaseClient.sql("select " + TASK_COLUMNS + " from tasks where project_id in (:projectIds) order by id")
+                .bind("projectIds", projectIds)
+                .map(ReactiveReadRepository::toTask)
+                .all()
+                .collect(Collectors.groupingBy(TaskResponseDto::projectId));
+    }
+
+    private static List<ProjectResponseDto> withTasks(List<ProjectResponseDto> projects,
+                                                      Map<Long, List<TaskResponseDto>> tasksByProject) {
+        List<ProjectResponseDto> page = new ArrayList<>(projects.size());
+        for (ProjectResponseDto project : projects) {
+            page.add(new ProjectResponseDto(
+                    project.id(),
+                    project.name(),
+                    project.description(),
+                    project.taskStats(),
+                    tasksByProject.getOrDefault(project.id(), List.of()),
+                    project.version()
+            ));
+        }
+        return page;
+    }
+
+    private static TaskResponseDto toTask(Readable row) {
+        String status = row.get("task_status", String.class);
+        return new TaskResponseDto(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                status != null ? TaskStatus.valueOf(status) : null,
+                row.get("project_id", Long.class),
+                row.get("version", Long.class)
+        );
+    }
+
+    private static ProjectResponseDto toProject(Readable row) {
+        return new ProjectResponseDto(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                new TaskStatsDto(
+                        row.get("todo_count", Long.class),
+                        row.get("in_progress_count", Long.class),
+                        row.get("done_count", Long.class)
+                ),
+                List.of(),
+                row.get("version", Long.class)
+        );
+    }
+}
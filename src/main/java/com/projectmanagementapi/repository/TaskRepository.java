@@ -1,12 +1,174 @@
 package com.projectmanagementapi.repository;
 
 import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskRepository extends JpaRepository<Task,Long> {
 
+    // The indexed text of a task, what TaskSearchIndex is rebuilt from
+    interface SearchDocument {
+        Long getId();
+
+        Long getVersion();
+
+        Long getProjectId();
+
+        String getTitle();
+
+        String getDescription();
+    }
+
+    // The listings filter on t.project.id in JPQL: derived Project_Id conditions join projects and compare its id,
+    // which keeps project_id out of the index conditions on tasks (see TaskIndexPlanTest)
+
+    // Query cache: the page of ids and its count query are served from default-query-results-region until the
+    // next write to TASKS, the tasks themselves then come from the entity region
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select t from Task t where t.project.id = :projectId")
     Page<Task> findByProject_Id(Long projectId, Pageable pageable);
 
+    // Filtered listings, served by idx_tasks_project_status and idx_tasks_project_title
+    @Query("select t from Task t where t.project.id = :projectId and t.taskStatus = :status")
+    Page<Task> findByProject_IdAndTaskStatus(Long projectId, TaskStatus status, Pageable pageable);
+
+    @Query("""
+            select t from Task t
+            where t.project.id = :projectId
+              and t.title like :#{escape(#titlePrefix)}% escape :#{escapeCharacter()}
+            """)
+    Page<Task> findByProject_IdAndTitleStartingWith(Long projectId, String titlePrefix, Pageable pageable);
+
+    @Query("""
+            select t from Task t
+            where t.project.id = :projectId and t.taskStatus = :status
+              and t.title like :#{escape(#titlePrefix)}% escape :#{escapeCharacter()}
+            """)
+    Page<Task> findByProject_IdAndTaskStatusAndTitleStartingWith(Long projectId, TaskStatus status,
+                                                                 String titlePrefix, Pageable pageable);
+
+    // The same listings without the count query: size + 1 rows are fetched and the extra one only sets hasNext
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select t from Task t where t.project.id = :projectId")
+    Slice<Task> findSliceByProject_Id(Long projectId, Pageable pageable);
+
+    @Query("select t from Task t where t.project.id = :projectId and t.taskStatus = :status")
+    Slice<Task> findSliceByProject_IdAndTaskStatus(Long projectId, TaskStatus status, Pageable pageable);
+
+    @Query("""
+            select t from Task t
+            where t.project.id = :projectId
+              and t.title like :#{escape(#titlePrefix)}% escape :#{escapeCharacter()}
+            """)
+    Slice<Task> findSliceByProject_IdAndTitleStartingWith(Long projectId, String titlePrefix, Pageable pageable);
+
+    @Query("""
+            select t from Task t
+            where t.project.id = :projectId and t.taskStatus = :status
+              and t.title like :#{escape(#titlePrefix)}% escape :#{escapeCharacter()}
+            """)
+    Slice<Task> findSliceByProject_IdAndTaskStatusAndTitleStartingWith(Long projectId, TaskStatus status,
+                                                                       String titlePrefix, Pageable pageable);
+
+    // Keyset (seek) page: WHERE id > ? ORDER BY id LIMIT ?, no OFFSET scan and no COUNT
+    @Query("select t from Task t where t.project.id = :projectId and t.id > :afterId order by t.id")
+    List<Task> findByProject_IdAndIdGreaterThanOrderByIdAsc(Long projectId, Long afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select count(t) from Task t where t.project.id = :projectId")
+    long countByProject_Id(Long projectId);
+
+    // Loads the tasks of several projects in one query (used to avoid N+1 on project listing)
+    @Query("select t from Task t where t.project.id in :projectIds")
+    List<Task> findByProject_IdIn(Collection<Long> projectIds);
+
+    // Version only, for ETag revalidation without loading the task
+    @Query("select t.version from Task t where t.id = :taskId")
+    Optional<Long> findVersionById(Long taskId);
+
+    // Row lock for read-modify-write of the status, keeps the project counters consistent under concurrency
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :taskId")
+    Optional<Task> findWithLockById(Long taskId);
+
+    // Same row lock for many tasks at once, used by the write-behind flush (TaskWriteBehindQueue)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :taskIds")
+    List<Task> findAllWithLockByIdIn(Collection<Long> taskIds);
+
+    @Query("select distinct t.project.id from Task t where t.id in :taskIds")
+    List<Long> findProjectIdsByTaskIds(Collection<Long> taskIds);
+
+    // Set-based status updates, the Task entities are never loaded (versions are still incremented)
+    @Transactional
+    @Modifying
+    @Query("""
+            update versioned Task t set t.taskStatus = :status, t.revision = :revision, t.lastModified = instant
+            where t.id in :taskIds
+            """)
+    int updateStatusByIds(Collection<Long> taskIds, TaskStatus status, long revision);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update versioned Task t set t.taskStatus = :status, t.revision = :revision, t.lastModified = instant
+            where t.project.id = :projectId
+              and (:currentStatus is null or t.taskStatus = :currentStatus)
+            """)
+    int updateStatusByProject(Long projectId, TaskStatus currentStatus, TaskStatus status, long revision);
+
+    // Delta sync: tasks of a project written in the revision range (since, upTo], served by idx_tasks_project_revision
+    @Query("""
+            select t from Task t
+            where t.project.id = :projectId and t.revision > :since and t.revision <= :upTo
+            order by t.revision, t.id
+            """)
+    List<Task> findChangedSince(Long projectId, long since, long upTo);
+
+    @Query("select coalesce(max(t.revision), 0) from Task t")
+    long findMaxRevision();
+
+    // Bulk delete of a project's tasks, nothing is loaded into the persistence context
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.project.id = :projectId")
+    int deleteTasksByProjectId(Long projectId);
+
+    // Forward-only cursor over the text of all tasks, must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select t.id as id, t.version as version, t.project.id as projectId,
+                   t.title as title, t.description as description
+            from Task t
+            """)
+    Stream<SearchDocument> streamSearchDocuments();
+
+    // Forward-only cursor over all tasks of a project, must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t where t.project.id = :projectId order by t.id")
+    Stream<Task> streamByProjectId(Long projectId);
+
 }
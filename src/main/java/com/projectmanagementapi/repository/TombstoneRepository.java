@@ -0,0 +1,31 @@
+package com.projectmanagementapi.repository;
+
+import com.projectmanagementapi.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    // Tasks of a project deleted in the revision range (since, upTo], served by idx_tombstones_project_revision
+    @Query("""
+            select t.entityId from Tombstone t
+            where t.projectId = :projectId
+              and t.entityType = com.projectmanagementapi.model.Tombstone$EntityType.TASK
+              and t.revision > :since and t.revision <= :upTo
+            order by t.revision, t.entityId
+            """)
+    List<Long> findDeletedTaskIds(Long projectId, long since, long upTo);
+
+    @Query("""
+            select t.revision from Tombstone t
+            where t.projectId = :projectId
+              and t.entityType = com.projectmanagementapi.model.Tombstone$EntityType.PROJECT
+            """)
+    Optional<Long> findProjectDeletionRevision(Long projectId);
+
+    @Query("select coalesce(max(t.revision), 0) from Tombstone t")
+    long findMaxRevision();
+}
@@ -0,0 +1,51 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.dto.ChangeEventDto.Type;
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.ProjectSummaryDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+
+// Published by the services from inside their transaction. ChangeFeedService only sees it after the commit,
+// a rolled back write publishes nothing
+record ChangeEvent(Type type, Long projectId, Long taskId, Long version, Object data) {
+
+    static ChangeEvent taskCreated(TaskResponseDto task) {
+        return new ChangeEvent(Type.TASK_CREATED, task.projectId(), task.id(), task.version(), task);
+    }
+
+    static ChangeEvent taskUpdated(TaskResponseDto task) {
+        return new ChangeEvent(Type.TASK_UPDATED, task.projectId(), task.id(), task.version(), task);
+    }
+
+    static ChangeEvent taskDeleted(Long projectId, Long taskId) {
+        return new ChangeEvent(Type.TASK_DELETED, projectId, taskId, null, null);
+    }
+
+    static ChangeEvent tasksChanged(Long projectId) {
+        return new ChangeEvent(Type.TASKS_CHANGED, projectId, null, null, null);
+    }
+
+    static ChangeEvent projectCreated(ProjectResponseDto project) {
+        return new ChangeEvent(Type.PROJECT_CREATED, project.id(), null, project.version(), summary(project));
+    }
+
+    static ChangeEvent projectUpdated(ProjectResponseDto project) {
+        return new ChangeEvent(Type.PROJECT_UPDATED, project.id(), null, project.version(), summary(project));
+    }
+
+    static ChangeEvent projectDeleted(Long projectId) {
+        return new ChangeEvent(Type.PROJECT_DELETED, projectId, null, null, null);
+    }
+
+    // The summary leaves out the task list, task changes have events of their own
+    private static ProjectSummaryDto summary(ProjectResponseDto project) {
+        return new ProjectSummaryDto(
+                project.id(),
+                project.name(),
+                project.description(),
+                project.taskStats().todo(),
+                project.taskStats().inProgress(),
+                project.taskStats().done()
+        );
+    }
+}
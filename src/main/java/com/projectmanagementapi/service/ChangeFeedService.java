@@ -0,0 +1,378 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.dto.ChangeEventDto;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.exception.ServiceUnavailableException;
+import com.projectmanagementapi.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-project change feed over Server-Sent Events (GET /projects/{id}/changes).
+//
+// Committed ChangeEvents get the next sequence number and are kept in a ring buffer of the last buffer-size events
+// of all projects, so a reconnecting client (Last-Event-ID) gets what it missed replayed. Sequencing, replay and
+// handing events to the subscribers happen under one lock, in memory only, so a subscriber sees every event once and
+// in order.
+//
+// Each subscriber has a queue of at most queue-size events, written to its connection by a sender task of its own.
+// A client that stops reading only holds up its own sender (until its write fails). When its queue overflows, the
+// backlog is replaced by a RESYNC event: the client reloads the project and the feed continues from there.
+// At most max-subscribers connections are open at a time, further subscriptions are rejected with 503, so the
+// sender pool never needs more than max-subscribers threads.
+@Service
+public class ChangeFeedService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    // Queue entry for a heartbeat comment, compared by identity
+    private static final ChangeEventDto HEARTBEAT = new ChangeEventDto(0, null, null, null, null, null);
+
+    private final ProjectRepository projectRepository;
+    private final long emitterTimeoutMillis;
+    private final int queueSize;
+    private final int maxSubscribers;
+
+    // Guarded by bufferLock, together with lastSequence and the subscriber sets.
+    // Slot sequence % length holds that event
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final ChangeEventDto[] buffer;
+    private final long firstSequence;
+    private long lastSequence;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // Subscriptions accepted and not closed yet, checked against maxSubscribers
+    private final AtomicInteger openSubscribers = new AtomicInteger();
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeats;
+
+    private Counter overflows;
+    private Counter rejected;
+
+    public ChangeFeedService(ProjectRepository projectRepository,
+                             @Value("${app.changes.buffer-size:10000}") int bufferSize,
+                             @Value("${app.changes.queue-size:1000}") int queueSize,
+                             @Value("${app.changes.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${app.changes.timeout-ms:1800000}") long emitterTimeoutMillis,
+                             @Value("${app.changes.heartbeat-ms:15000}") long heartbeatMillis) {
+        this.projectRepository = projectRepository;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.queueSize = queueSize;
+        this.maxSubscribers = maxSubscribers;
+        this.buffer = new ChangeEventDto[bufferSize];
+
+        // Sequences keep increasing across restarts, so an id from a previous run is older than anything
+        // buffered and the client is told to resync instead of being sent unrelated events
+        this.lastSequence = System.currentTimeMillis() * 1000;
+        this.firstSequence = lastSequence + 1;
+
+        // At most one sender per subscriber at a time, so at most max-subscribers threads. A subscriber that just
+        // closed may still finish its sender while its successor starts one, that task waits in the queue.
+        // Idle threads are released after a minute
+        AtomicInteger senderCount = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(maxSubscribers, maxSubscribers, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(maxSubscribers), runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-" + senderCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        senders.allowCoreThreadTimeOut(true);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Keeps idle connections open through proxies and notices clients that went away
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Runs after the publishing transaction committed, or right away when there was none
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        bufferLock.lock();
+        try {
+            ChangeEventDto dto = new ChangeEventDto(
+                    ++lastSequence,
+                    event.type(),
+                    event.projectId(),
+                    event.taskId(),
+                    event.version(),
+                    event.data()
+            );
+            buffer[slot(dto.sequence())] = dto;
+
+            Set<Subscriber> projectSubscribers = subscribers.get(dto.projectId());
+            if (projectSubscribers == null) {
+                return;
+            }
+            projectSubscribers.forEach(subscriber -> subscriber.enqueue(dto));
+            // Their senders complete the streams once PROJECT_DELETED is written
+            if (dto.type() == ChangeEventDto.Type.PROJECT_DELETED) {
+                subscribers.remove(dto.projectId());
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    // lastEventId is the Last-Event-ID of a reconnecting client, null for a new subscription
+    public SseEmitter subscribe(Long projectId, Long lastEventId) {
+        if (!projectRepository.existsById(projectId)) {
+            log.warn("Cannot subscribe to changes: project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+        if (openSubscribers.incrementAndGet() > maxSubscribers) {
+            openSubscribers.decrementAndGet();
+            increment(rejected);
+            throw new ServiceUnavailableException("Too many change feed subscribers, retry later");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        // Completing on timeout ends the stream normally (the client reconnects) instead of raising
+        // AsyncRequestTimeoutException, which has no text/event-stream error body
+        emitter.onTimeout(emitter::complete);
+
+        // Replay and registration under bufferLock: no gap and no duplicate with the events that follow
+        bufferLock.lock();
+        try {
+            List<ChangeEventDto> missed = missedEvents(projectId, lastEventId);
+            missed.forEach(subscriber::enqueue);
+            if (missed.stream().noneMatch(event -> event.type() == ChangeEventDto.Type.PROJECT_DELETED)) {
+                subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Subscribed to changes of project {} after event {}", projectId, lastEventId);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(projectSubscribers ->
+                projectSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.changes.subscribers", this, ChangeFeedService::subscriberCount)
+                .description("Open change feed connections")
+                .register(registry);
+        overflows = Counter.builder("app.changes.overflows")
+                .description("Subscribers that fell more than queue-size events behind and were sent RESYNC")
+                .register(registry);
+        rejected = Counter.builder("app.changes.rejected")
+                .description("Subscriptions rejected because max-subscribers connections were open")
+                .register(registry);
+    }
+
+    // The counters are null until the registry is bound
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    // Called with bufferLock held
+    private List<ChangeEventDto> missedEvents(Long projectId, Long lastEventId) {
+        long oldest = Math.max(firstSequence, lastSequence - buffer.length + 1);
+        if (lastEventId == null || lastEventId < oldest - 1 || lastEventId > lastSequence) {
+            return List.of(resync(projectId, lastSequence));
+        }
+
+        List<ChangeEventDto> missed = new ArrayList<>();
+        for (long sequence = lastEventId + 1; sequence <= lastSequence; sequence++) {
+            ChangeEventDto event = buffer[slot(sequence)];
+            if (event.projectId().equals(projectId)) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    // Only queued when the subscriber's sender is idle, a stalled connection does not collect heartbeats
+    private void heartbeat() {
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(Subscriber::ping));
+    }
+
+    private static ChangeEventDto resync(Long projectId, long sequence) {
+        return new ChangeEventDto(sequence, ChangeEventDto.Type.RESYNC, projectId, null, null, null);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    private final class Subscriber {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+
+        // Guarded by queueLock, together with sending and closed
+        private final ReentrantLock queueLock = new ReentrantLock();
+        private final ArrayDeque<ChangeEventDto> queue = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+
+        Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(ChangeEventDto event) {
+            queueLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= queueSize) {
+                    // The client reloads the project, which already contains this event
+                    queue.clear();
+                    queue.add(resync(projectId, event.sequence()));
+                    increment(overflows);
+                    log.debug("Change feed subscriber of project {} fell behind, sending RESYNC", projectId);
+                    // Still ends the stream, there is nothing to reload
+                    if (event.type() == ChangeEventDto.Type.PROJECT_DELETED) {
+                        queue.add(event);
+                    }
+                } else {
+                    queue.add(event);
+                }
+                startSender();
+            } finally {
+                queueLock.unlock();
+            }
+        }
+
+        void ping() {
+            queueLock.lock();
+            try {
+                if (!closed && !sending) {
+                    queue.add(HEARTBEAT);
+                    startSender();
+                }
+            } finally {
+                queueLock.unlock();
+            }
+        }
+
+        // Called once per end of the stream (failed write, completion, error), only the first call counts
+        void close() {
+            boolean alreadyClosed;
+            queueLock.lock();
+            try {
+                alreadyClosed = closed;
+                closed = true;
+                queue.clear();
+            } finally {
+                queueLock.unlock();
+            }
+            if (alreadyClosed) {
+                return;
+            }
+            openSubscribers.decrementAndGet();
+            subscribers.computeIfPresent(projectId, (id, projectSubscribers) -> {
+                projectSubscribers.remove(this);
+                return projectSubscribers.isEmpty() ? null : projectSubscribers;
+            });
+        }
+
+        // Called with queueLock held
+        private void startSender() {
+            if (sending) {
+                return;
+            }
+            sending = true;
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down, the stream is completed by shutdown()
+                sending = false;
+            }
+        }
+
+        // Sender thread: writes the queue in order until it is empty or the connection fails
+        private void drain() {
+            while (true) {
+                ChangeEventDto event;
+                queueLock.lock();
+                try {
+                    event = queue.poll();
+                    if (event == null || closed) {
+                        sending = false;
+                        return;
+                    }
+                } finally {
+                    queueLock.unlock();
+                }
+                if (!send(event)) {
+                    close();
+                    return;
+                }
+                if (event.type() == ChangeEventDto.Type.PROJECT_DELETED) {
+                    emitter.complete();
+                    close();
+                    return;
+                }
+            }
+        }
+
+        // A failed write means the client is gone, the container completes the request
+        private boolean send(ChangeEventDto event) {
+            try {
+                if (event == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.sequence()))
+                            .name(event.type().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping change feed subscriber: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+}
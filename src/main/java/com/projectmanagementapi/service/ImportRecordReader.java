@@ -0,0 +1,104 @@
+package com.projectmanagementapi.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Splits an import body into records of at most maxLength characters. A record ends at \n, \r\n or \r.
+// In CSV mode a line break inside a double-quoted field belongs to the field (RFC 4180), so one record may span
+// several lines. A longer record is not kept in memory: it is skipped up to the next line break and returned as
+// too long.
+final class ImportRecordReader {
+
+    // text is null when the record was longer than maxLength, line is the line it starts on
+    record ImportRecord(long line, String text) {
+
+        boolean tooLong() {
+            return text == null;
+        }
+    }
+
+    private final Reader reader;
+    private final int maxLength;
+    private final boolean quotedLineBreaks;
+
+    private final char[] buffer = new char[8192];
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int limit;
+    private long lineNumber;
+    // The previous record ended with \r, a \n right after it belongs to that line break
+    private boolean skipLineFeed;
+
+    ImportRecordReader(Reader reader, int maxLength, boolean quotedLineBreaks) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+        this.quotedLineBreaks = quotedLineBreaks;
+    }
+
+    // Returns null at the end of the body
+    ImportRecord next() throws IOException {
+        text.setLength(0);
+        long startLine = lineNumber + 1;
+        boolean quoted = false;
+        boolean tooLong = false;
+        boolean empty = true;
+        char previous = 0;
+
+        while (true) {
+            if (position == limit && !fill()) {
+                if (empty) {
+                    return null;
+                }
+                break;
+            }
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            empty = false;
+
+            if ((c == '\n' || c == '\r') && !quoted) {
+                skipLineFeed = c == '\r';
+                break;
+            }
+            if (c == '\n' || c == '\r') {
+                // Line break inside a quoted field, counted unless it is the \n of a \r\n
+                if (c == '\r' || previous != '\r') {
+                    lineNumber++;
+                }
+            } else if (c == '"' && quotedLineBreaks && !tooLong) {
+                // An escaped "" toggles twice
+                quoted = !quoted;
+            }
+            previous = c;
+
+            if (tooLong) {
+                continue;
+            }
+            if (text.length() == maxLength) {
+                // Skipped up to the next line break, quotes included: an unterminated quote cannot swallow the body
+                tooLong = true;
+                quoted = false;
+                text.setLength(0);
+            } else {
+                text.append(c);
+            }
+        }
+
+        lineNumber++;
+        return new ImportRecord(startLine, tooLong ? null : text.toString());
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -1,82 +1,197 @@
 
 package com.projectmanagementapi.service;
 
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.config.MetricsConfig;
+import com.projectmanagementapi.dto.CountMode;
 import com.projectmanagementapi.dto.PagedResponse;
 import com.projectmanagementapi.dto.ProjectRequestDto;
 import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.ProjectSummaryDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
+import com.projectmanagementapi.exception.PreconditionFailedException;
 import com.projectmanagementapi.exception.ResourceNotFoundException;
 import com.projectmanagementapi.mapper.ProjectMapper;
 import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.Tombstone;
 import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import com.projectmanagementapi.repository.TombstoneRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ProjectService {
 
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
 
     private final ProjectRepository projectRepository;
-
-    public ProjectService(ProjectRepository projectRepository) {
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RevisionSequence revisionSequence;
+    private final TombstoneRepository tombstoneRepository;
+
+    public ProjectService(ProjectRepository projectRepository,
+                          TaskRepository taskRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          RevisionSequence revisionSequence,
+                          TombstoneRepository tombstoneRepository) {
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.revisionSequence = revisionSequence;
+        this.tombstoneRepository = tombstoneRepository;
     }
 
+    // Transactional for the revision, see RevisionSequence, and so the event is only sent once the insert committed
+    @Transactional
     public ProjectResponseDto createProject(Project project) {
-        log.info("Creating new project with name='{}'", project.getName());
+        log.debug("Creating new project with name='{}'", project.getName());
+        project.setRevision(revisionSequence.current());
         ProjectResponseDto saved = ProjectMapper.toDto(projectRepository.save(project));
+        eventPublisher.publishEvent(ChangeEvent.projectCreated(saved));
         log.info("Project created successfully with id={}", saved.id());
         return saved;
     }
 
-    public ProjectResponseDto getProjectById(Long id) {
-        log.info("Fetching project with id={}", id);
+    // Reads the version column only, used to answer If-None-Match without loading the project
+    public Long getProjectVersion(Long id) {
+        return projectRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id " + id));
+    }
 
+    @Cacheable(cacheNames = CacheConfig.PROJECTS, key = "#id")
+    public ProjectResponseDto getProjectById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id " + id));
 
-        log.info("Project with id={} retrieved successfully", id);
-        return ProjectMapper.toDto(project);
+        // Read paths log at DEBUG only, the guard skips argument boxing when it is off
+        if (log.isDebugEnabled()) {
+            log.debug("Project with id={} retrieved successfully", id);
+        }
+        return toDtoWithTasks(project);
     }
 
     public PagedResponse<ProjectResponseDto> getAllProjects(int page, int size) {
-        log.info("Fetching all projects page={} size={}", page, size);
+        return getAllProjects(page, size, CountMode.EXACT);
+    }
 
-        Page<Project> projectsPage = projectRepository.findAll(PageRequest.of(page, size));
+    public PagedResponse<ProjectResponseDto> getAllProjects(int page, int size, CountMode countMode) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Slice<Project> projectsSlice;
+        Long total;
+        if (countMode == CountMode.EXACT) {
+            Page<Project> projectsPage = projectRepository.findAll(pageRequest);
+            projectsSlice = projectsPage;
+            total = projectsPage.getTotalElements();
+        } else {
+            projectsSlice = projectRepository.findSliceBy(pageRequest);
+            total = countMode == CountMode.ESTIMATED ? projectRepository.estimateCount() : null;
+        }
+        Map<Long, List<Task>> tasksByProject = findTasksByProject(projectsSlice.getContent());
 
-        List<ProjectResponseDto> dtos = projectsPage.getContent()
+        List<ProjectResponseDto> dtos = projectsSlice.getContent()
                 .stream()
-                .map(ProjectMapper::toDto)
+                .map(project -> ProjectMapper.toDto(
+                        project,
+                        tasksByProject.getOrDefault(project.getId(), List.of())
+                ))
                 .toList();
 
-        log.info("Fetched {} projects (page {} of {})",
-                dtos.size(),
-                projectsPage.getNumber(),
-                projectsPage.getTotalPages()
-        );
+        if (log.isDebugEnabled()) {
+            log.debug("Fetched {} projects (page {}, count={}, total={}, hasNext={})",
+                    dtos.size(),
+                    projectsSlice.getNumber(),
+                    countMode,
+                    total,
+                    projectsSlice.hasNext()
+            );
+        }
 
+        if (total == null) {
+            return new PagedResponse<>(dtos, projectsSlice.getNumber(), projectsSlice.getSize(),
+                    projectsSlice.hasNext());
+        }
         return new PagedResponse<>(
                 dtos,
-                projectsPage.getNumber(),
-                projectsPage.getSize(),
-                projectsPage.getTotalElements()
+                projectsSlice.getNumber(),
+                projectsSlice.getSize(),
+                total
+        );
+    }
+
+    public PagedResponse<ProjectSummaryDto> getProjectSummaries(int page, int size) {
+        Page<ProjectSummaryDto> summariesPage = projectRepository.findAllSummaries(PageRequest.of(page, size));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Fetched {} project summaries (page {} of {})",
+                    summariesPage.getNumberOfElements(),
+                    summariesPage.getNumber(),
+                    summariesPage.getTotalPages()
+            );
+        }
+
+        return new PagedResponse<>(
+                summariesPage.getContent(),
+                summariesPage.getNumber(),
+                summariesPage.getSize(),
+                summariesPage.getTotalElements()
         );
     }
 
-    public ProjectResponseDto updateProject(Long id, Project updatedProject) {
-        log.info("Updating project with id={}", id);
+    // Reads the counters maintained by the task writes, a single primary key lookup
+    public TaskStatsDto getTaskStats(Long id) {
+        TaskStatsDto stats = projectRepository.findTaskStats(id)
+                .orElseThrow(() -> {
+                    log.warn("Cannot fetch task stats: project {} not found", id);
+                    return new ResourceNotFoundException("Project not found with id " + id);
+                });
+
+        if (log.isDebugEnabled()) {
+            log.debug("Project {} has {} tasks", id, stats.total());
+        }
+        return stats;
+    }
+
+    // expectedVersion comes from If-Match (null to skip). A write that slips in between the load and the flush
+    // fails the version check of the UPDATE and surfaces as 409 instead of being silently overwritten
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.PROJECTS, key = "#id")
+    public ProjectResponseDto updateProject(Long id, Project updatedProject, Long expectedVersion) {
+        log.debug("Updating project with id={}", id);
 
         return projectRepository.findById(id)
                 .map(project -> {
+                    if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+                        log.warn("Cannot update project {}: version {} expected but is {}",
+                                id, expectedVersion, project.getVersion());
+                        throw new PreconditionFailedException("Project " + id + " has been modified");
+                    }
+
                     project.setName(updatedProject.getName());
                     project.setDescription(updatedProject.getDescription());
-                    Project saved = projectRepository.save(project);
+                    project.setRevision(revisionSequence.current());
+                    // Flushed here so the returned (and cached) DTO carries the incremented version
+                    ProjectResponseDto saved = toDtoWithTasks(projectRepository.saveAndFlush(project));
+                    eventPublisher.publishEvent(ChangeEvent.projectUpdated(saved));
                     log.info("Project with id={} updated successfully", id);
-                    return ProjectMapper.toDto(saved);
+                    return saved;
                 })
                 .orElseThrow(() -> {
                     log.warn("Cannot update project: id={} not found", id);
@@ -84,14 +199,49 @@ public class ProjectService {
                 });
     }
 
+    // Deleting a project cascades to its tasks, whose ids are not known here.
+    // One tombstone for the project covers its tasks in delta sync
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    })
+    @Transactional
     public void deleteProject(Long id) {
-        log.info("Deleting project with id={}", id);
+        log.debug("Deleting project with id={}", id);
+
+        // Two set-based deletes in one transaction instead of the entity cascade,
+        // which would load and delete every task one by one
+        int deletedTasks = taskRepository.deleteTasksByProjectId(id);
 
-        if (!projectRepository.existsById(id)) {
+        if (projectRepository.deleteProjectById(id) == 0) {
             throw new ResourceNotFoundException("Project not found with id " + id);
         }
+        tombstoneRepository.save(Tombstone.ofProject(id, revisionSequence.current()));
+        eventPublisher.publishEvent(ChangeEvent.projectDeleted(id));
+        eventPublisher.publishEvent(TaskIndexEvent.projectDeleted(id));
 
-        projectRepository.deleteById(id);
-        log.info("Project with id={} deleted successfully", id);
+        log.info("Project with id={} and its {} tasks deleted successfully", id, deletedTasks);
+    }
+
+    // Map a single project with an explicit task query, so it does not rely on an open session
+    // -------------------------------------------------------------------------
+    private ProjectResponseDto toDtoWithTasks(Project project) {
+        return ProjectMapper.toDto(project, taskRepository.findByProject_IdIn(List.of(project.getId())));
+    }
+
+    // Fetch the tasks of a whole page of projects in a single query instead of one lazy load per project
+    // -------------------------------------------------------------------------
+    private Map<Long, List<Task>> findTasksByProject(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> projectIds = projects.stream()
+                .map(Project::getId)
+                .toList();
+
+        return taskRepository.findByProject_IdIn(projectIds)
+                .stream()
+                .collect(Collectors.groupingBy(task -> task.getProject().getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import com.projectmanagementapi.repository.TombstoneRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Revisions for delta sync: every write transaction gets one number, shared by all rows it touches, from a counter
+// that continues after the highest revision in the database.
+//
+// Transactions do not commit in revision order, so a reader must not see revision n before every smaller revision
+// has committed or it would skip the late ones for good. committed() is therefore the highest revision below
+// all transactions still in flight, and sync only returns rows up to it. Revisions are handed out by this process,
+// so this only holds with a single instance writing to the database.
+@Service
+public class RevisionSequence {
+
+    private static final Logger log = LoggerFactory.getLogger(RevisionSequence.class);
+
+    // Guarded by lock, together with last
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private long last;
+
+    public RevisionSequence(TaskRepository taskRepository,
+                            ProjectRepository projectRepository,
+                            TombstoneRepository tombstoneRepository) {
+        this.last = Math.max(taskRepository.findMaxRevision(),
+                Math.max(projectRepository.findMaxRevision(), tombstoneRepository.findMaxRevision()));
+        log.debug("Revisions continue after {}", last);
+    }
+
+    // The revision of the current transaction, allocated on first use and released when the transaction completes
+    public long current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Revisions can only be allocated inside a transaction");
+        }
+
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        long revision;
+        lock.lock();
+        try {
+            revision = ++last;
+            inFlight.add(revision);
+        } finally {
+            lock.unlock();
+        }
+        TransactionSynchronizationManager.bindResource(this, revision);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // A REQUIRES_NEW transaction inside this one gets a revision of its own
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(RevisionSequence.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(RevisionSequence.this, revision);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RevisionSequence.this);
+                lock.lock();
+                try {
+                    inFlight.remove(revision);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+        return revision;
+    }
+
+    // Every revision up to this one has either committed or rolled back
+    public long committed() {
+        lock.lock();
+        try {
+            return inFlight.isEmpty() ? last : inFlight.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.MetricsConfig;
+import com.projectmanagementapi.dto.ProjectSyncDto;
+import com.projectmanagementapi.dto.SyncResponseDto;
+import com.projectmanagementapi.dto.TaskSyncDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.mapper.ProjectMapper;
+import com.projectmanagementapi.mapper.TaskMapper;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import com.projectmanagementapi.repository.TombstoneRepository;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+// Delta sync for offline clients: what changed in a project since the revision the client last synced to
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final RevisionSequence revisionSequence;
+
+    public SyncService(ProjectRepository projectRepository,
+                       TaskRepository taskRepository,
+                       TombstoneRepository tombstoneRepository,
+                       RevisionSequence revisionSequence) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.revisionSequence = revisionSequence;
+    }
+
+    // since = 0 is a full sync. Only revisions up to RevisionSequence.committed() are returned, read before the
+    // queries, so a write that commits late with a smaller revision is picked up by the next sync instead of lost
+    @Transactional(readOnly = true)
+    public SyncResponseDto getChangesSince(Long projectId, long since) {
+        long upTo = revisionSequence.committed();
+        if (since < 0 || since > upTo) {
+            throw new BadRequestException("Unknown revision " + since + ", sync again with since=0");
+        }
+
+        Optional<Project> project = projectRepository.findById(projectId);
+        if (project.isEmpty()) {
+            if (tombstoneRepository.findProjectDeletionRevision(projectId).isPresent()) {
+                return new SyncResponseDto(upTo, true, null, List.of(), List.of());
+            }
+            log.warn("Cannot sync: project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+
+        long revision = project.get().getRevision();
+        ProjectSyncDto changedProject = revision > since && revision <= upTo
+                ? ProjectMapper.toSyncDto(project.get())
+                : null;
+
+        List<TaskSyncDto> tasks = taskRepository.findChangedSince(projectId, since, upTo)
+                .stream()
+                .map(TaskMapper::toSyncDto)
+                .toList();
+        List<Long> deletedTaskIds = tombstoneRepository.findDeletedTaskIds(projectId, since, upTo);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Synced project {} from revision {} to {}: {} tasks changed, {} deleted",
+                    projectId, since, upTo, tasks.size(), deletedTaskIds.size());
+        }
+        return new SyncResponseDto(upTo, false, changedProject, tasks, deletedTaskIds);
+    }
+}
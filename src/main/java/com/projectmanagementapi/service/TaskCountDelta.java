@@ -0,0 +1,39 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ProjectRepository;
+
+// Accumulates per-status changes to a project's task counters and applies them in one UPDATE
+final class TaskCountDelta {
+
+    private long todo;
+    private long inProgress;
+    private long done;
+
+    static TaskCountDelta of(TaskStatus status, long count) {
+        return new TaskCountDelta().add(status, count);
+    }
+
+    // Tasks without a status are not counted
+    TaskCountDelta add(TaskStatus status, long count) {
+        if (status == null) {
+            return this;
+        }
+        switch (status) {
+            case TODO -> todo += count;
+            case IN_PROGRESS -> inProgress += count;
+            case DONE -> done += count;
+        }
+        return this;
+    }
+
+    boolean isEmpty() {
+        return todo == 0 && inProgress == 0 && done == 0;
+    }
+
+    // Returns the number of updated project rows, 0 means the project does not exist.
+    // revision is the writing transaction's (RevisionSequence.current())
+    int applyTo(ProjectRepository projectRepository, Long projectId, long revision) {
+        return projectRepository.adjustTaskCounts(projectId, todo, inProgress, done, revision);
+    }
+}
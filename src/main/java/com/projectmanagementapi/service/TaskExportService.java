@@ -0,0 +1,82 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.MetricsConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.mapper.TaskMapper;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class TaskExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExportService.class);
+
+    private static final int FLUSH_EVERY = 1_000;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter taskWriter;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             ProjectRepository projectRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.taskWriter = objectMapper.writerFor(TaskResponseDto.class);
+    }
+
+    // Checked before streaming starts, once the body is being written the status can no longer change
+    public void requireProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            log.warn("Cannot export tasks: project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+    }
+
+    // Writes every task of the project as one JSON document per line (NDJSON).
+    // Rows come from a forward-only cursor and are detached once written, so memory stays flat.
+    @Transactional(readOnly = true)
+    public long exportTasks(Long projectId, OutputStream out) throws IOException {
+        log.info("Exporting tasks of project {}", projectId);
+
+        long exported = 0;
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                out.write(taskWriter.writeValueAsBytes(TaskMapper.toDto(task)));
+                out.write('\n');
+                entityManager.detach(task);
+
+                if (++exported % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+
+        log.info("Exported {} tasks of project {}", exported, projectId);
+        return exported;
+    }
+}
@@ -0,0 +1,232 @@
+package com.projectmanagementapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.config.MetricsConfig;
+import com.projectmanagementapi.dto.TaskImportErrorDto;
+import com.projectmanagementapi.dto.TaskImportResultDto;
+import com.projectmanagementapi.dto.TaskRequestDTo;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class TaskImportService {
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    // Only the first errors are reported so the response stays bounded, the failed count is always exact
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String CSV_HEADER = "title,description,status";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final ObjectReader rowReader;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RevisionSequence revisionSequence;
+    private final int defaultChunkSize;
+    private final int maxLineLength;
+
+    public TaskImportService(TaskRepository taskRepository,
+                             ProjectRepository projectRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             RevisionSequence revisionSequence,
+                             @Value("${app.tasks.import.chunk-size:500}") int defaultChunkSize,
+                             @Value("${app.tasks.import.max-line-length:8192}") int maxLineLength) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.rowReader = objectMapper.readerFor(TaskRequestDTo.class);
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.revisionSequence = revisionSequence;
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    // Reads the body line by line, validates each row like TaskRequestDTo and commits every chunkSize rows.
+    // Invalid rows are reported and skipped, they never abort the import. Heap use is bounded by the chunk size and
+    // the maximum line length: a longer row is skipped without being buffered and reported as an error.
+    @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#projectId")
+    public TaskImportResultDto importTasks(Long projectId, InputStream body, Format format, Integer chunkSize)
+            throws IOException {
+        int effectiveChunkSize = chunkSize != null ? chunkSize : defaultChunkSize;
+        if (effectiveChunkSize < 1 || effectiveChunkSize > MAX_CHUNK_SIZE) {
+            throw new BadRequestException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+
+        if (!projectRepository.existsById(projectId)) {
+            log.warn("Cannot import tasks: project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+
+        log.info("Importing {} tasks into project {} chunkSize={}", format, projectId, effectiveChunkSize);
+
+        // CSV rows may continue on the next line inside a quoted field, NDJSON rows never contain a raw line break
+        ImportRecordReader reader = new ImportRecordReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength, format == Format.CSV);
+        List<Task> chunk = new ArrayList<>(effectiveChunkSize);
+        List<TaskImportErrorDto> errors = new ArrayList<>();
+        long imported = 0;
+        long failed = 0;
+
+        ImportRecordReader.ImportRecord record;
+        while ((record = reader.next()) != null) {
+            String line = record.text();
+            if (line != null
+                    && (line.isBlank() || (format == Format.CSV && record.line() == 1 && isCsvHeader(line)))) {
+                continue;
+            }
+
+            String error;
+            try {
+                if (record.tooLong()) {
+                    throw new IllegalArgumentException("Row is longer than " + maxLineLength + " characters");
+                }
+                TaskRequestDTo row = format == Format.CSV ? parseCsv(line) : rowReader.readValue(line);
+                error = validate(row);
+                if (error == null) {
+                    chunk.add(new Task(row));
+                }
+            } catch (JsonProcessingException e) {
+                error = "Malformed JSON: " + e.getOriginalMessage();
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            }
+
+            if (error != null) {
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new TaskImportErrorDto(record.line(), error));
+                }
+            }
+
+            if (chunk.size() >= effectiveChunkSize) {
+                imported += persistChunk(projectId, chunk);
+            }
+        }
+        imported += persistChunk(projectId, chunk);
+
+        log.info("Imported {} tasks into project {} ({} rows rejected)", imported, projectId, failed);
+        return new TaskImportResultDto(imported, failed, errors);
+    }
+
+    // Each chunk is its own transaction: inserts are JDBC batched and the persistence context is cleared after
+    // -------------------------------------------------------------------------
+    private int persistChunk(Long projectId, List<Task> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        int size = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            TaskCountDelta delta = new TaskCountDelta();
+            for (Task task : chunk) {
+                if (task.getStatus() == null) {
+                    task.setStatus(TaskStatus.TODO);
+                }
+                delta.add(task.getStatus(), 1);
+            }
+
+            // The project may have been deleted since the import started
+            long revision = revisionSequence.current();
+            if (delta.applyTo(projectRepository, projectId, revision) == 0) {
+                throw new ResourceNotFoundException("Project not found with id " + projectId);
+            }
+
+            Project project = projectRepository.getReferenceById(projectId);
+            for (Task task : chunk) {
+                task.setProject(project);
+                task.setRevision(revision);
+            }
+            taskRepository.saveAll(chunk);
+            entityManager.flush();
+            // Built before clear(), the project reference is detached afterwards
+            TaskIndexEvent indexEvent = TaskIndexEvent.written(chunk);
+            entityManager.clear();
+            eventPublisher.publishEvent(ChangeEvent.tasksChanged(projectId));
+            eventPublisher.publishEvent(indexEvent);
+        });
+        chunk.clear();
+        return size;
+    }
+
+    private String validate(TaskRequestDTo row) {
+        Set<ConstraintViolation<TaskRequestDTo>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private TaskRequestDTo parseCsv(String line) {
+        List<String> fields = CsvLineParser.parse(line);
+        if (fields.size() < 2 || fields.size() > 3) {
+            throw new IllegalArgumentException("Expected columns " + CSV_HEADER + " but got " + fields.size());
+        }
+
+        TaskStatus status = null;
+        if (fields.size() == 3 && !fields.get(2).isBlank()) {
+            String value = fields.get(2).trim();
+            try {
+                status = TaskStatus.valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid value '" + value + "' for field 'status'");
+            }
+        }
+        return new TaskRequestDTo(fields.get(0), fields.get(1), status);
+    }
+
+    private boolean isCsvHeader(String line) {
+        return line.replace(" ", "").toLowerCase().startsWith("title,description");
+    }
+}
@@ -0,0 +1,28 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.model.Task;
+
+import java.util.Collection;
+import java.util.List;
+
+// Published by the services from inside their transaction with the task text they wrote or the tasks they deleted.
+// TaskSearchIndex applies it after the commit as one batch, a rolled back write publishes nothing
+record TaskIndexEvent(List<TaskSearchIndex.Entry> upserts, List<Long> deletedTaskIds, Long deletedProjectId) {
+
+    // The tasks must be flushed, so their versions are the committed ones
+    static TaskIndexEvent written(Collection<Task> tasks) {
+        List<TaskSearchIndex.Entry> entries = tasks.stream()
+                .map(task -> new TaskSearchIndex.Entry(task.getId(), task.getVersion(), task.getProject().getId(),
+                        task.getTitle(), task.getDescription()))
+                .toList();
+        return new TaskIndexEvent(entries, List.of(), null);
+    }
+
+    static TaskIndexEvent taskDeleted(Long taskId) {
+        return new TaskIndexEvent(List.of(), List.of(taskId), null);
+    }
+
+    static TaskIndexEvent projectDeleted(Long projectId) {
+        return new TaskIndexEvent(List.of(), List.of(), projectId);
+    }
+}
@@ -0,0 +1,202 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// In-process Lucene index over task titles and descriptions, held in memory and rebuilt from TASKS at startup.
+//
+// Task writes publish a TaskIndexEvent that is applied only after their transaction committed, one batch per write
+// call (a bulk create or an import chunk is one batch), without any Lucene commit on the write path. A rolled back
+// write never reaches the index. Two commits of the same task applied out of order keep the newer text (the task
+// version decides). New searches see a batch once it has been applied, right after the commit on the writing thread.
+// If the process dies in between, the rebuild at the next start picks the write up.
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String PROJECT = "project";
+    private static final String TEXT = "text";
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    // Text of a task as committed, version is the task's @Version
+    record Entry(Long id, long version, Long projectId, String title, String description) { }
+
+    record Hit(Long id, float score) { }
+
+    private record Indexed(long version, Long projectId) { }
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Guarded by writeLock together with the writer updates: the version each task is indexed with
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, Indexed> indexed = new HashMap<>();
+    // Set after a batch was applied, the next search reopens the searcher
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public TaskSearchIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager)
+            throws IOException {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        long started = System.nanoTime();
+        int count = readOnlyTransaction.execute(status -> {
+            int total = 0;
+            List<Entry> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            try (Stream<TaskRepository.SearchDocument> documents = taskRepository.streamSearchDocuments()) {
+                Iterator<TaskRepository.SearchDocument> iterator = documents.iterator();
+                while (iterator.hasNext()) {
+                    TaskRepository.SearchDocument document = iterator.next();
+                    batch.add(new Entry(document.getId(), document.getVersion(), document.getProjectId(),
+                            document.getTitle(), document.getDescription()));
+                    if (batch.size() == REBUILD_BATCH_SIZE || !iterator.hasNext()) {
+                        apply(new TaskIndexEvent(batch, List.of(), null));
+                        total += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            return total;
+        });
+        log.info("Search index built from {} tasks in {} ms", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // AFTER_COMMIT, or right away when there was no transaction. A failure here cannot undo the commit,
+    // it is logged and the write stays unsearchable until the next start
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIndexEvent(TaskIndexEvent event) {
+        try {
+            apply(event);
+        } catch (RuntimeException e) {
+            log.error("Could not index {} tasks after commit", event.upserts().size(), e);
+        }
+    }
+
+    // Best match first. offset + limit hits are scored, the caller bounds both
+    public List<Hit> search(String escapedTerms, int offset, int limit) {
+        Query query;
+        try {
+            query = new QueryParser(TEXT, analyzer).parse(escapedTerms);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid search query: " + e.getMessage(), e);
+        }
+
+        try {
+            if (stale.getAndSet(false)) {
+                searcherManager.maybeRefreshBlocking();
+            }
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, offset + limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>();
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    hits.add(new Hit(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)), scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private void apply(TaskIndexEvent event) {
+        writeLock.lock();
+        try {
+            for (Entry entry : event.upserts()) {
+                Indexed current = indexed.get(entry.id());
+                if (current != null && current.version() >= entry.version()) {
+                    continue;
+                }
+                writer.updateDocument(new Term(ID, entry.id().toString()), document(entry));
+                indexed.put(entry.id(), new Indexed(entry.version(), entry.projectId()));
+            }
+            for (Long taskId : event.deletedTaskIds()) {
+                writer.deleteDocuments(new Term(ID, taskId.toString()));
+                indexed.remove(taskId);
+            }
+            Long projectId = event.deletedProjectId();
+            if (projectId != null) {
+                writer.deleteDocuments(new Term(PROJECT, projectId.toString()));
+                indexed.values().removeIf(entry -> projectId.equals(entry.projectId()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+        stale.set(true);
+    }
+
+    // Title and description are searched as one field, like the columns of a single row
+    private static Document document(Entry entry) {
+        Document document = new Document();
+        document.add(new StringField(ID, entry.id().toString(), Field.Store.YES));
+        document.add(new StringField(PROJECT, entry.projectId().toString(), Field.Store.NO));
+        document.add(new TextField(TEXT,
+                Objects.toString(entry.title(), "") + "\n" + Objects.toString(entry.description(), ""),
+                Field.Store.NO));
+        return document;
+    }
+}
@@ -0,0 +1,92 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.MetricsConfig;
+import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.TaskSearchHitDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.mapper.TaskMapper;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.repository.TaskRepository;
+
+import org.apache.lucene.queryparser.classic.QueryParser;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class TaskSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+
+    public TaskSearchService(TaskRepository taskRepository, TaskSearchIndex taskSearchIndex) {
+        this.taskRepository = taskRepository;
+        this.taskSearchIndex = taskSearchIndex;
+    }
+
+    // Ranks by the Lucene score of the words in title and description, best match first.
+    // The index returns ids only, the page of tasks is then loaded by primary key in one query
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskSearchHitDto> searchTasks(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        // Lucene collects offset + size + 1 hits into an int-sized queue, page * size is computed in long so it
+        // cannot wrap to a negative offset
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE - MAX_PAGE_SIZE - 1) {
+            throw new BadRequestException("Page " + page + " is out of range");
+        }
+
+        // Query syntax characters are escaped, the words are matched as plain terms (any word matches)
+        String terms = QueryParser.escape(query.trim());
+
+        // Fetch one extra hit to know whether another page exists, no total is counted
+        List<TaskSearchIndex.Hit> hits;
+        try {
+            hits = taskSearchIndex.search(terms, (int) offset, size + 1);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        boolean hasNext = hits.size() > size;
+        List<TaskSearchIndex.Hit> pageHits = hits.subList(0, Math.min(size, hits.size()));
+
+        List<Long> ids = pageHits.stream()
+                .map(TaskSearchIndex.Hit::id)
+                .toList();
+        Map<Long, Task> tasksById = taskRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // The index only holds committed writes (see TaskSearchIndex) but is applied after the commit, so a task
+        // deleted by a transaction that committed in between can still be a hit without a row. It is skipped, the
+        // page is then one short. The tasks are read as of now and may be newer than the text that matched
+        List<TaskSearchHitDto> results = pageHits.stream()
+                .filter(hit -> tasksById.containsKey(hit.id()))
+                .map(hit -> new TaskSearchHitDto(TaskMapper.toDto(tasksById.get(hit.id())), hit.score()))
+                .toList();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} tasks for '{}' page={} size={} (hasNext={})",
+                    results.size(), query, page, size, hasNext);
+        }
+        return new PagedResponse<>(results, page, size, hasNext);
+    }
+}
@@ -1,133 +1,487 @@
 package com.projectmanagementapi.service;
 
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.config.MetricsConfig;
+import com.projectmanagementapi.dto.CountMode;
 import com.projectmanagementapi.dto.PagedResponse;
 import com.projectmanagementapi.dto.TaskRequestDTo;
 import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.PreconditionFailedException;
 import com.projectmanagementapi.exception.ResourceNotFoundException;
 import com.projectmanagementapi.mapper.TaskMapper;
 import com.projectmanagementapi.model.Project;
 import com.projectmanagementapi.model.Task;
 import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.model.Tombstone;
 import com.projectmanagementapi.repository.ProjectRepository;
 import com.projectmanagementapi.repository.TaskRepository;
+import com.projectmanagementapi.repository.TombstoneRepository;
 
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class TaskService {
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
 
+    // Largest keyset page, size + 1 rows are loaded at once
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    // Sort keys accepted from clients, mapped to entity attributes. Anything else is rejected
+    private static final Map<String, String> SORTABLE_FIELDS = Map.of(
+            "id", "id",
+            "title", "title",
+            "status", "taskStatus"
+    );
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final TaskWriteBehindQueue taskWriteBehindQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RevisionSequence revisionSequence;
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public TaskService(TaskRepository taskRepository,
-                       ProjectRepository projectRepository) {
+                       ProjectRepository projectRepository,
+                       TaskWriteBehindQueue taskWriteBehindQueue,
+                       ApplicationEventPublisher eventPublisher,
+                       RevisionSequence revisionSequence,
+                       TombstoneRepository tombstoneRepository,
+                       PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.taskWriteBehindQueue = taskWriteBehindQueue;
+        this.eventPublisher = eventPublisher;
+        this.revisionSequence = revisionSequence;
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    // The cached project DTO embeds its tasks, so any task write evicts the parent project as well
+    @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.TASKS, key = "#result.id()"),
+            evict = @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#projectId")
+    )
     public TaskResponseDto createTask(Long projectId, Task task) {
-        log.info("Creating task '{}' under project {}", task.getTitle(), projectId);
-
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> {
-                    log.warn("Cannot create task: project {} not found", projectId);
-                    return new ResourceNotFoundException("Project not found with id " + projectId);
-                });
-
-        task.setProject(project);
+        log.debug("Creating task '{}' under project {}", task.getTitle(), projectId);
 
         if (task.getStatus() == null) {
             task.setStatus(TaskStatus.TODO);
-            log.info("Task '{}' status set to default '{}'", task.getTitle(), TaskStatus.TODO);
+            log.debug("Task '{}' status set to default '{}'", task.getTitle(), TaskStatus.TODO);
         }
 
-        Task saved = taskRepository.save(task);
-        log.info("Task '{}' created successfully with id {}", saved.getTitle(), saved.getId());
-        return TaskMapper.toDto(saved);
+        // Incrementing the project's counter doubles as the existence check,
+        // so the project row is never selected and an uninitialized reference is attached
+        long revision = revisionSequence.current();
+        if (TaskCountDelta.of(task.getStatus(), 1).applyTo(projectRepository, projectId, revision) == 0) {
+            log.warn("Cannot create task: project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+        task.setProject(projectRepository.getReferenceById(projectId));
+        task.setRevision(revision);
+
+        Task created = taskRepository.save(task);
+        TaskResponseDto saved = TaskMapper.toDto(created);
+        eventPublisher.publishEvent(ChangeEvent.taskCreated(saved));
+        eventPublisher.publishEvent(TaskIndexEvent.written(List.of(created)));
+
+        log.info("Task '{}' created successfully with id {}", saved.title(), saved.id());
+        return saved;
     }
 
-    public TaskResponseDto getTaskById(Long taskId) {
-        log.info("Fetching task with id={}", taskId);
+    // Resolves the project once and persists all tasks in one transaction, inserts are JDBC batched
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#projectId")
+    public List<Long> createTasks(Long projectId, List<Task> tasks) {
+        log.debug("Creating {} tasks under project {}", tasks.size(), projectId);
+
+        TaskCountDelta delta = new TaskCountDelta();
+        for (Task task : tasks) {
+            if (task.getStatus() == null) {
+                task.setStatus(TaskStatus.TODO);
+            }
+            delta.add(task.getStatus(), 1);
+        }
+
+        long revision = revisionSequence.current();
+        if (delta.applyTo(projectRepository, projectId, revision) == 0) {
+            log.warn("Cannot create tasks: project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+
+        Project project = projectRepository.getReferenceById(projectId);
+        for (Task task : tasks) {
+            task.setProject(project);
+            task.setRevision(revision);
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        List<Long> ids = saved.stream()
+                .map(Task::getId)
+                .toList();
+        eventPublisher.publishEvent(ChangeEvent.tasksChanged(projectId));
+        eventPublisher.publishEvent(TaskIndexEvent.written(saved));
+
+        log.info("Created {} tasks under project {}", ids.size(), projectId);
+        return ids;
+    }
+
+    // Reads the version column only, used to answer If-None-Match without loading the task
+    public Long getTaskVersion(Long taskId) {
+        return taskRepository.findVersionById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task with id={} not found", taskId);
+                    return new ResourceNotFoundException("Task not found");
+                });
+    }
 
+    @Cacheable(cacheNames = CacheConfig.TASKS, key = "#taskId")
+    public TaskResponseDto getTaskById(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.warn("Task with id={} not found", taskId);
                     return new ResourceNotFoundException("Task not found");
                 });
 
-        log.info("Task with id={} retrieved successfully", taskId);
+        // Read paths log at DEBUG only, the guard skips argument boxing when it is off
+        if (log.isDebugEnabled()) {
+            log.debug("Task with id={} retrieved successfully", taskId);
+        }
         return TaskMapper.toDto(task);
     }
 
     public PagedResponse<TaskResponseDto> getTasksForProject(Long projectId, int page, int size) {
-        log.info("Fetching tasks for project {} page={} size={}", projectId, page, size);
-        if (!projectRepository.existsById(projectId)) {
-            throw new ResourceNotFoundException("Project not found with id " + projectId);
-        }
+        return getTasksForProject(projectId, null, null, page, size, null, CountMode.EXACT);
+    }
 
-        Page<Task> tasksPage = taskRepository.findByProject_Id(
-                projectId,
-                PageRequest.of(page, size)
-        );
+    public PagedResponse<TaskResponseDto> getTasksForProject(Long projectId, TaskStatus status, String titlePrefix,
+                                                             int page, int size, String sort) {
+        return getTasksForProject(projectId, status, titlePrefix, page, size, sort, CountMode.EXACT);
+    }
+
+    // Filters are pushed into the query so each combination is served by one of the composite indexes.
+    // ESTIMATED reads the project's counters, which cover the whole project and each status but not title
+    // prefixes, so a prefix filter falls back to NONE
+    public PagedResponse<TaskResponseDto> getTasksForProject(Long projectId, TaskStatus status, String titlePrefix,
+                                                             int page, int size, String sort, CountMode countMode) {
+        PageRequest pageRequest = PageRequest.of(page, size, parseSort(sort));
+        boolean hasPrefix = titlePrefix != null && !titlePrefix.isEmpty();
+
+        Slice<Task> tasksSlice;
+        Long total;
+        if (countMode == CountMode.EXACT) {
+            Page<Task> tasksPage = findTasksPage(projectId, status, titlePrefix, hasPrefix, pageRequest);
+            tasksSlice = tasksPage;
+            total = tasksPage.getTotalElements();
+        } else {
+            tasksSlice = findTasksSlice(projectId, status, titlePrefix, hasPrefix, pageRequest);
+            total = countMode == CountMode.ESTIMATED && !hasPrefix ? countFromCounters(projectId, status) : null;
+        }
+        requireProjectIfEmpty(projectId, tasksSlice.isEmpty());
 
-        List<TaskResponseDto> dtos = tasksPage.getContent()
+        List<TaskResponseDto> dtos = tasksSlice.getContent()
                 .stream()
                 .map(TaskMapper::toDto)
                 .toList();
 
-        log.info("Fetched {} tasks for project {} (page {} of {})",
-                dtos.size(),
-                projectId,
-                tasksPage.getNumber(),
-                tasksPage.getTotalPages()
-        );
+        if (log.isDebugEnabled()) {
+            log.debug("Fetched {} tasks for project {} status={} titlePrefix={} sort={} "
+                            + "(page {}, count={}, total={}, hasNext={})",
+                    dtos.size(),
+                    projectId,
+                    status,
+                    titlePrefix,
+                    sort,
+                    tasksSlice.getNumber(),
+                    countMode,
+                    total,
+                    tasksSlice.hasNext()
+            );
+        }
 
+        if (total == null) {
+            return new PagedResponse<>(dtos, tasksSlice.getNumber(), tasksSlice.getSize(), tasksSlice.hasNext());
+        }
         return new PagedResponse<>(
                 dtos,
-                tasksPage.getNumber(),
-                tasksPage.getSize(),
-                tasksPage.getTotalElements()
+                tasksSlice.getNumber(),
+                tasksSlice.getSize(),
+                total
+        );
+    }
+
+    private Page<Task> findTasksPage(Long projectId, TaskStatus status, String titlePrefix, boolean hasPrefix,
+                                     PageRequest pageRequest) {
+        if (status != null && hasPrefix) {
+            return taskRepository.findByProject_IdAndTaskStatusAndTitleStartingWith(
+                    projectId, status, titlePrefix, pageRequest);
+        } else if (status != null) {
+            return taskRepository.findByProject_IdAndTaskStatus(projectId, status, pageRequest);
+        } else if (hasPrefix) {
+            return taskRepository.findByProject_IdAndTitleStartingWith(projectId, titlePrefix, pageRequest);
+        }
+        return taskRepository.findByProject_Id(projectId, pageRequest);
+    }
+
+    private Slice<Task> findTasksSlice(Long projectId, TaskStatus status, String titlePrefix, boolean hasPrefix,
+                                       PageRequest pageRequest) {
+        if (status != null && hasPrefix) {
+            return taskRepository.findSliceByProject_IdAndTaskStatusAndTitleStartingWith(
+                    projectId, status, titlePrefix, pageRequest);
+        } else if (status != null) {
+            return taskRepository.findSliceByProject_IdAndTaskStatus(projectId, status, pageRequest);
+        } else if (hasPrefix) {
+            return taskRepository.findSliceByProject_IdAndTitleStartingWith(projectId, titlePrefix, pageRequest);
+        }
+        return taskRepository.findSliceByProject_Id(projectId, pageRequest);
+    }
+
+    // Total from the counters maintained by the task writes, a primary key lookup instead of a COUNT over TASKS
+    private long countFromCounters(Long projectId, TaskStatus status) {
+        TaskStatsDto stats = projectRepository.findTaskStats(projectId)
+                .orElseThrow(() -> {
+                    log.warn("Project {} not found", projectId);
+                    return new ResourceNotFoundException("Project not found with id " + projectId);
+                });
+        if (status == null) {
+            return stats.total();
+        }
+        return switch (status) {
+            case TODO -> stats.todo();
+            case IN_PROGRESS -> stats.inProgress();
+            case DONE -> stats.done();
+        };
+    }
+
+    public PagedResponse<TaskResponseDto> scrollTasksForProject(Long projectId, String cursor, int size,
+                                                                boolean includeTotal) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+        long afterId = cursor == null || cursor.isBlank() ? 0L : CursorCodec.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<Task> tasks = taskRepository.findByProject_IdAndIdGreaterThanOrderByIdAsc(
+                projectId,
+                afterId,
+                Limit.of(size + 1)
         );
+        requireProjectIfEmpty(projectId, tasks.isEmpty());
+
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponseDto> dtos = tasks.stream()
+                .limit(size)
+                .map(TaskMapper::toDto)
+                .toList();
+
+        String nextCursor = hasNext ? CursorCodec.encode(dtos.get(dtos.size() - 1).id()) : null;
+        Long total = includeTotal ? taskRepository.countByProject_Id(projectId) : null;
+
+        if (log.isDebugEnabled()) {
+            log.debug("Fetched {} tasks for project {} after cursor {} (hasNext={})",
+                    dtos.size(), projectId, cursor, hasNext);
+        }
+
+        return new PagedResponse<>(dtos, size, total, nextCursor);
     }
 
-    public TaskResponseDto updateTask(Long taskId, Task updatedTask) {
-        log.info("Updating task with id={}", taskId);
+    // The task row is locked so concurrent status transitions cannot apply the same counter delta twice,
+    // and the expected version (from If-Match, null to skip) is compared against the locked row.
+    // Queued write-behind updates are written first so they cannot overwrite this one later. That flush takes
+    // connections of its own, so the transaction here only starts after it instead of being declared on the method
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.TASKS, key = "#taskId"),
+            evict = @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#result.projectId()")
+    )
+    public TaskResponseDto updateTask(Long taskId, Task updatedTask, Long expectedVersion) {
+        log.debug("Updating task with id={}", taskId);
+        taskWriteBehindQueue.flush();
 
-        return taskRepository.findById(taskId)
+        return transactionTemplate.execute(status -> writeTask(taskId, updatedTask, expectedVersion));
+    }
+
+    private TaskResponseDto writeTask(Long taskId, Task updatedTask, Long expectedVersion) {
+        return taskRepository.findWithLockById(taskId)
                 .map(task -> {
+                    if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                        log.warn("Cannot update task {}: version {} expected but is {}",
+                                taskId, expectedVersion, task.getVersion());
+                        throw new PreconditionFailedException("Task " + taskId + " has been modified");
+                    }
+
+                    long revision = revisionSequence.current();
                     task.setTitle(updatedTask.getTitle());
                     task.setDescription(updatedTask.getDescription());
+                    task.setRevision(revision);
 
-                    if (updatedTask.getStatus() != null) {
+                    // Applied even when the status is unchanged, the counter UPDATE also bumps the project version
+                    TaskCountDelta delta = new TaskCountDelta();
+                    TaskStatus previous = task.getStatus();
+                    if (updatedTask.getStatus() != null && updatedTask.getStatus() != previous) {
                         task.setStatus(updatedTask.getStatus());
-                        log.info("Task {} status updated to '{}'", taskId, updatedTask.getStatus());
+                        delta.add(previous, -1).add(updatedTask.getStatus(), 1);
+                        log.debug("Task {} status updated to '{}'", taskId, updatedTask.getStatus());
                     }
+                    delta.applyTo(projectRepository, task.getProject().getId(), revision);
 
-                    Task saved = taskRepository.save(task);
+                    // Flushed here so the returned (and cached) DTO carries the incremented version
+                    Task written = taskRepository.saveAndFlush(task);
+                    TaskResponseDto saved = TaskMapper.toDto(written);
+                    eventPublisher.publishEvent(ChangeEvent.taskUpdated(saved));
+                    eventPublisher.publishEvent(TaskIndexEvent.written(List.of(written)));
                     log.info("Task with id={} updated successfully", taskId);
-                    return TaskMapper.toDto(saved);
+                    return saved;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
     }
 
-    public void deleteTask(Long taskId) {
-        log.info("Deleting task with id={}", taskId);
+    // Affected projects are not known without loading the tasks, so both caches are cleared.
+    // The previous statuses are not known either, so the counters of the affected projects are recomputed.
+    // Queued write-behind updates are written first, before the transaction starts, like for updateTask
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PROJECTS, allEntries = true)
+    })
+    public int updateTaskStatuses(Set<Long> taskIds, TaskStatus status) {
+        log.debug("Updating status of {} tasks to '{}'", taskIds.size(), status);
+        taskWriteBehindQueue.flush();
+
+        int updated = transactionTemplate.execute(transaction -> writeTaskStatuses(taskIds, status));
+        log.info("Updated status of {} tasks to '{}'", updated, status);
+        return updated;
+    }
+
+    private int writeTaskStatuses(Set<Long> taskIds, TaskStatus status) {
+        long revision = revisionSequence.current();
+        List<Long> projectIds = taskRepository.findProjectIdsByTaskIds(taskIds);
+        int updated = taskRepository.updateStatusByIds(taskIds, status, revision);
+        if (updated > 0) {
+            projectRepository.recountTaskCounts(projectIds, revision);
+            projectIds.forEach(projectId -> eventPublisher.publishEvent(ChangeEvent.tasksChanged(projectId)));
+        }
+        return updated;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#projectId")
+    })
+    public int updateProjectTaskStatuses(Long projectId, TaskStatus currentStatus, TaskStatus status) {
+        log.debug("Updating status of tasks in project {} from '{}' to '{}'", projectId, currentStatus, status);
+        taskWriteBehindQueue.flush();
+
+        int updated = transactionTemplate.execute(
+                transaction -> writeProjectTaskStatuses(projectId, currentStatus, status));
+        log.info("Updated status of {} tasks in project {} to '{}'", updated, projectId, status);
+        return updated;
+    }
 
-        if (!taskRepository.existsById(taskId)) {
-            log.warn("Cannot delete task: id={} not found", taskId);
-            throw new ResourceNotFoundException("Task not found with id " + taskId);
+    private int writeProjectTaskStatuses(Long projectId, TaskStatus currentStatus, TaskStatus status) {
+        long revision = revisionSequence.current();
+        int updated = taskRepository.updateStatusByProject(projectId, currentStatus, status, revision);
+
+        requireProjectIfEmpty(projectId, updated == 0);
+
+        // With a known source status every updated row moved between two counters,
+        // otherwise the rows came from mixed statuses and the counters are recomputed
+        if (updated > 0 && currentStatus == null) {
+            projectRepository.recountTaskCounts(List.of(projectId), revision);
+        } else if (updated > 0 && currentStatus != status) {
+            TaskCountDelta.of(currentStatus, -updated)
+                    .add(status, updated)
+                    .applyTo(projectRepository, projectId, revision);
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(ChangeEvent.tasksChanged(projectId));
         }
+        return updated;
+    }
+
+    // The parent project id is not known before the method runs, so all cached projects are evicted.
+    // The task is loaded under a row lock because its status decides which counter is decremented, and is then
+    // removed as an entity so only its own second-level cache entry (and its project's tasks collection) is evicted.
+    // The tombstone tells delta sync clients to drop the task
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS, key = "#taskId"),
+            @CacheEvict(cacheNames = CacheConfig.PROJECTS, allEntries = true)
+    })
+    public void deleteTask(Long taskId) {
+        log.debug("Deleting task with id={}", taskId);
+
+        Task task = taskRepository.findWithLockById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Cannot delete task: id={} not found", taskId);
+                    return new ResourceNotFoundException("Task not found with id " + taskId);
+                });
+
+        Long projectId = task.getProject().getId();
+        long revision = revisionSequence.current();
+        taskRepository.delete(task);
+        TaskCountDelta.of(task.getStatus(), -1).applyTo(projectRepository, projectId, revision);
+        tombstoneRepository.save(Tombstone.ofTask(taskId, projectId, revision));
+        eventPublisher.publishEvent(ChangeEvent.taskDeleted(projectId, taskId));
+        eventPublisher.publishEvent(TaskIndexEvent.taskDeleted(taskId));
 
-        taskRepository.deleteById(taskId);
         log.info("Task with id={} deleted successfully", taskId);
     }
+
+    // Parses "field" or "field,asc|desc", id is always the final tie breaker so pages are stable
+    // -------------------------------------------------------------------------
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("id");
+        }
+
+        String[] parts = sort.split(",");
+        String field = SORTABLE_FIELDS.get(parts[0].trim());
+        if (field == null || parts.length > 2) {
+            throw new BadRequestException("Invalid sort '" + sort + "', expected one of "
+                    + SORTABLE_FIELDS.keySet().stream().sorted().toList() + " optionally followed by ,asc or ,desc");
+        }
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new BadRequestException("Invalid sort direction '" + parts[1].trim() + "'"));
+        }
+
+        Sort result = Sort.by(direction, field);
+        return field.equals("id") ? result : result.and(Sort.by("id"));
+    }
+
+    // An empty result is the only case where the project may be missing, so only then pay for the lookup
+    // -------------------------------------------------------------------------
+    private void requireProjectIfEmpty(Long projectId, boolean empty) {
+        if (empty && !projectRepository.existsById(projectId)) {
+            log.warn("Project {} not found", projectId);
+            throw new ResourceNotFoundException("Project not found with id " + projectId);
+        }
+    }
 }
\ No newline at end of file
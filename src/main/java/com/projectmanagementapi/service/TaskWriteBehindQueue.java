@@ -0,0 +1,379 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.config.MetricsConfig;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.mapper.TaskMapper;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Optional write-behind mode for PUT /tasks/{taskId} (app.tasks.write-behind.enabled).
+//
+// Accepted updates are held in memory, keyed by task id: a later update to the same task replaces the pending one
+// (PUT is a full replacement, so the last one wins). A single flusher thread writes them every flush-interval-ms,
+// or as soon as max-batch-size tasks are pending, in one transaction per batch: the rows are locked, changed and
+// written by Hibernate as JDBC batches, and the project counters get one exact delta per project.
+//
+// Acknowledgement is NOT durable: an accepted update is lost if the process dies before the next flush. It is not
+// visible to reads until then either. Shutdown flushes everything pending, and any synchronous task write
+// (conditional update, bulk status change) flushes first, so writes are still applied in the order they arrived.
+//
+// flush() must be called outside of a transaction: every batch takes a pooled connection of its own, a caller already
+// holding one would need two. A batch that fails for a transient reason (lock timeout, no connection) goes back into
+// the queue and the flush stops there; the flusher tries again with a growing delay, from flush-interval-ms doubling up
+// to MAX_RETRY_DELAY_MILLIS, and back to flush-interval-ms after a flush that succeeds. Any other failure is retried
+// task by task so one bad row does not take the batch with it, and what still fails is dropped and counted.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class TaskWriteBehindQueue implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBehindQueue.class);
+
+    private static final long MAX_RETRY_DELAY_MILLIS = 10_000;
+
+    record PendingUpdate(String title, String description, TaskStatus status) { }
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RevisionSequence revisionSequence;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int capacity;
+    private final long flushIntervalMillis;
+
+    // Guarded by pendingLock. Insertion order is kept so batches roughly follow arrival order
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Map<Long, PendingUpdate> pending = new LinkedHashMap<>();
+    // One flush at a time, whether from the flusher thread, a full queue or a synchronous write. Held across JDBC
+    // calls
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ScheduledExecutorService flusher;
+
+    // Only used by the flusher thread: transient failures in a row and when the flusher may try again
+    private int failedFlushes;
+    private long retryAtNanos;
+
+    private Counter submitted;
+    private Counter written;
+    private Counter droppedDeleted;
+    private Counter droppedFailed;
+
+    public TaskWriteBehindQueue(TaskRepository taskRepository,
+                                ProjectRepository projectRepository,
+                                CacheManager cacheManager,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                RevisionSequence revisionSequence,
+                                @Value("${app.tasks.write-behind.enabled:false}") boolean enabled,
+                                @Value("${app.tasks.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+                                @Value("${app.tasks.write-behind.max-batch-size:500}") int maxBatchSize,
+                                @Value("${app.tasks.write-behind.capacity:10000}") int capacity) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.revisionSequence = revisionSequence;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.capacity = capacity;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        // Always a transaction of its own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        if (enabled) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+            log.info("Task write-behind enabled: flush every {}ms or {} tasks, capacity {}",
+                    flushIntervalMillis, maxBatchSize, capacity);
+        } else {
+            flusher = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Queues the update and returns without writing. Unknown tasks are rejected up front (one version lookup,
+    // skipped when the task already has a pending update). When the queue is full the caller flushes it first.
+    public void submit(Long taskId, Task update) {
+        PendingUpdate pendingUpdate = new PendingUpdate(update.getTitle(), update.getDescription(), update.getStatus());
+
+        boolean known;
+        pendingLock.lock();
+        try {
+            known = pending.containsKey(taskId);
+        } finally {
+            pendingLock.unlock();
+        }
+        if (!known && taskRepository.findVersionById(taskId).isEmpty()) {
+            log.warn("Cannot queue update: task {} not found", taskId);
+            throw new ResourceNotFoundException("Task not found with id " + taskId);
+        }
+
+        int size;
+        while ((size = offer(taskId, pendingUpdate)) < 0) {
+            flush();
+        }
+        increment(submitted, 1);
+        if (size >= maxBatchSize && flusher != null && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    // Writes everything pending at the time of the call, in batches of max-batch-size tasks. Throws the transient
+    // failure that stopped it, with the batch back in the queue, so a synchronous writer does not overtake it
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+
+            Map<Long, PendingUpdate> batch;
+            while (!(batch = take(maxBatchSize)).isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        pendingLock.lock();
+        try {
+            return pending.size();
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    // Stops the flusher and writes what is left. Runs after the web server has stopped taking requests
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        int remaining = pendingCount();
+        if (remaining > 0) {
+            log.info("Flushing {} pending task updates before shutdown", remaining);
+            flush();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.tasks.write_behind.pending", this, TaskWriteBehindQueue::pendingCount)
+                .description("Task updates accepted but not written yet")
+                .register(registry);
+        submitted = Counter.builder("app.tasks.write_behind.submitted")
+                .description("Task updates accepted into the write-behind queue")
+                .register(registry);
+        written = Counter.builder("app.tasks.write_behind.written")
+                .description("Task rows written by write-behind flushes, submitted minus written were coalesced")
+                .register(registry);
+        droppedDeleted = Counter.builder("app.tasks.write_behind.dropped")
+                .description("Accepted task updates that were never written")
+                .tag("reason", "deleted")
+                .register(registry);
+        droppedFailed = Counter.builder("app.tasks.write_behind.dropped")
+                .description("Accepted task updates that were never written")
+                .tag("reason", "failed")
+                .register(registry);
+    }
+
+    // Returns the new queue size, or -1 when the queue is full and the task has nothing pending to merge into
+    private int offer(Long taskId, PendingUpdate update) {
+        pendingLock.lock();
+        try {
+            if (pending.size() >= capacity && !pending.containsKey(taskId)) {
+                return -1;
+            }
+            pending.put(taskId, update);
+            return pending.size();
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private Map<Long, PendingUpdate> take(int max) {
+        pendingLock.lock();
+        try {
+            Map<Long, PendingUpdate> batch = new LinkedHashMap<>();
+            var iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < max) {
+                var entry = iterator.next();
+                batch.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+            return batch;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void write(Map<Long, PendingUpdate> batch) {
+        try {
+            writeBatch(batch);
+        } catch (TransientDataAccessException | CannotCreateTransactionException e) {
+            // Lock timeout, pool exhausted or similar: put the batch back, newer updates queued meanwhile take
+            // precedence, and stop this flush instead of taking the same batch again right away
+            pendingLock.lock();
+            try {
+                batch.forEach(pending::putIfAbsent);
+            } finally {
+                pendingLock.unlock();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Write-behind update of task {} failed, update dropped", batch.keySet(), e);
+                increment(droppedFailed, 1);
+                return;
+            }
+            log.warn("Write-behind flush of {} tasks failed, writing them one by one: {}",
+                    batch.size(), e.getMessage());
+            List<Map.Entry<Long, PendingUpdate>> updates = new ArrayList<>(batch.entrySet());
+            for (int i = 0; i < updates.size(); i++) {
+                try {
+                    write(Map.of(updates.get(i).getKey(), updates.get(i).getValue()));
+                } catch (TransientDataAccessException | CannotCreateTransactionException transientFailure) {
+                    // That update is back in the queue already, the ones after it follow
+                    pendingLock.lock();
+                    try {
+                        updates.subList(i + 1, updates.size())
+                                .forEach(update -> pending.putIfAbsent(update.getKey(), update.getValue()));
+                    } finally {
+                        pendingLock.unlock();
+                    }
+                    throw transientFailure;
+                }
+            }
+        }
+    }
+
+    private void writeBatch(Map<Long, PendingUpdate> batch) {
+        List<Long> missing = new ArrayList<>();
+        Map<Long, TaskCountDelta> deltas = new HashMap<>();
+        Set<Long> projectIds = transactionTemplate.execute(status -> {
+            long revision = revisionSequence.current();
+            Set<Long> found = new HashSet<>();
+            List<Task> tasks = taskRepository.findAllWithLockByIdIn(batch.keySet());
+            for (Task task : tasks) {
+                found.add(task.getId());
+                PendingUpdate update = batch.get(task.getId());
+                task.setTitle(update.title());
+                task.setDescription(update.description());
+                task.setRevision(revision);
+
+                TaskCountDelta delta = deltas.computeIfAbsent(task.getProject().getId(), id -> new TaskCountDelta());
+                if (update.status() != null && update.status() != task.getStatus()) {
+                    delta.add(task.getStatus(), -1).add(update.status(), 1);
+                    task.setStatus(update.status());
+                }
+            }
+            batch.keySet().stream().filter(id -> !found.contains(id)).forEach(missing::add);
+
+            // Also applied when empty, the counter UPDATE bumps the project version like a synchronous update
+            deltas.forEach((projectId, delta) -> delta.applyTo(projectRepository, projectId, revision));
+
+            // Flushed before publishing so the events carry the incremented versions
+            taskRepository.flush();
+            tasks.forEach(task -> eventPublisher.publishEvent(ChangeEvent.taskUpdated(TaskMapper.toDto(task))));
+            eventPublisher.publishEvent(TaskIndexEvent.written(tasks));
+            return deltas.keySet();
+        });
+
+        int updated = batch.size() - missing.size();
+        if (!missing.isEmpty()) {
+            log.warn("Dropped queued updates of {} deleted tasks: {}", missing.size(), missing);
+            increment(droppedDeleted, missing.size());
+        }
+        evictCached(batch.keySet(), projectIds);
+        increment(written, updated);
+        log.debug("Write-behind flushed {} tasks of {} projects", updated, projectIds.size());
+    }
+
+    private void evictCached(Set<Long> taskIds, Set<Long> projectIds) {
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+        Cache projects = cacheManager.getCache(CacheConfig.PROJECTS);
+        if (tasks != null) {
+            taskIds.forEach(tasks::evict);
+        }
+        if (projects != null) {
+            projectIds.forEach(projects::evict);
+        }
+    }
+
+    // Flusher thread only. Skipped while backing off after transient failures, a synchronous writer still flushes
+    void flushQuietly() {
+        if (failedFlushes > 0 && System.nanoTime() - retryAtNanos < 0) {
+            return;
+        }
+        try {
+            flush();
+            failedFlushes = 0;
+        } catch (TransientDataAccessException | CannotCreateTransactionException e) {
+            failedFlushes++;
+            long delayMillis = Math.min(flushIntervalMillis << Math.min(failedFlushes - 1, 20), MAX_RETRY_DELAY_MILLIS);
+            retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            log.warn("Write-behind flush failed {} times in a row, retrying in {}ms: {}",
+                    failedFlushes, delayMillis, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush failed", e);
+        }
+    }
+
+    // Counters are only there once the meter registry has bound them
+    private static void increment(Counter counter, int amount) {
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+}
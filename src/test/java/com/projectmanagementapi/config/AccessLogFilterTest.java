@@ -0,0 +1,59 @@
+package com.projectmanagementapi.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogFilter.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setup() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    // Sampling - 0 logs nothing, 1 logs every request
+    // ----------------------------------------------------------
+    @Test
+    void testSampleRate() throws Exception {
+        perform(new AccessLogFilter(0.0, 60_000), 200);
+        assertTrue(appender.list.isEmpty());
+
+        perform(new AccessLogFilter(1.0, 60_000), 200);
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("GET /tasks/1 200 "));
+    }
+
+    // Server errors and slow requests are logged regardless of sampling
+    @Test
+    void testErrorsAndSlowRequestsAreAlwaysLogged() throws Exception {
+        perform(new AccessLogFilter(0.0, 60_000), 500);
+        perform(new AccessLogFilter(0.0, 0), 200);
+
+        assertEquals(2, appender.list.size());
+    }
+
+    private void perform(AccessLogFilter filter, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        filter.doFilter(request, response, new MockFilterChain());
+    }
+}
@@ -0,0 +1,232 @@
+package com.projectmanagementapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Events are written by each subscriber's sender thread, so the streamed response is polled until the expected
+// event shows up
+@SpringBootTest
+@AutoConfigureMockMvc
+class ChangeFeedTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long projectId;
+
+    record Event(long id, String name, JsonNode data) { }
+
+    @BeforeEach
+    void setup() throws Exception {
+        projectId = createProject("Feed");
+    }
+
+    // New subscription - RESYNC first, then the project's task events in commit order
+    // ----------------------------------------------------------
+    @Test
+    void testSubscriptionReceivesTaskEvents() throws Exception {
+        long otherProjectId = createProject("Other");
+        MvcResult feed = subscribe(projectId, null);
+        awaitEvents(feed, 1);
+
+        long taskId = createTask(projectId, "Watched");
+        createTask(otherProjectId, "Not watched");
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"description\":\"desc\",\"status\":\"DONE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/tasks/{id}", taskId))
+                .andExpect(status().isOk());
+
+        List<Event> events = awaitEvents(feed, 4);
+        assertEquals(List.of("RESYNC", "TASK_CREATED", "TASK_UPDATED", "TASK_DELETED"),
+                events.stream().map(Event::name).toList());
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(events.get(i).id() > events.get(i - 1).id());
+        }
+
+        JsonNode updated = events.get(2).data();
+        assertEquals(taskId, updated.get("taskId").asLong());
+        assertEquals(projectId, updated.get("projectId").asLong());
+        assertEquals("Renamed", updated.get("data").get("title").asText());
+        assertEquals("DONE", updated.get("data").get("status").asText());
+        assertTrue(updated.get("version").asLong() > events.get(1).data().get("version").asLong());
+        assertTrue(events.get(3).data().get("data").isNull());
+    }
+
+    // Reconnect with Last-Event-ID - only the events after it are replayed, then live events follow
+    // ----------------------------------------------------------
+    @Test
+    void testResumeFromLastEventId() throws Exception {
+        MvcResult first = subscribe(projectId, null);
+        createTask(projectId, "Seen");
+        long lastSeen = awaitEvents(first, 2).get(1).id();
+
+        long missedTaskId = createTask(projectId, "Missed");
+        awaitEvents(first, 3);
+
+        MvcResult resumed = subscribe(projectId, lastSeen);
+        mockMvc.perform(patch("/projects/{id}/tasks/status", projectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk());
+
+        List<Event> events = awaitEvents(resumed, 2);
+        assertEquals(List.of("TASK_CREATED", "TASKS_CHANGED"), events.stream().map(Event::name).toList());
+        assertEquals(missedTaskId, events.get(0).data().get("taskId").asLong());
+    }
+
+    // A project created after the client's last event is replayed as PROJECT_CREATED
+    @Test
+    void testProjectCreatedIsReplayed() throws Exception {
+        MvcResult feed = subscribe(projectId, null);
+        long lastEventId = awaitEvents(feed, 1).get(0).id();
+
+        long createdId = createProject("Created later");
+        MvcResult resumed = subscribe(createdId, lastEventId);
+
+        List<Event> events = awaitEvents(resumed, 1);
+        assertEquals("PROJECT_CREATED", events.get(0).name());
+        assertEquals("Created later", events.get(0).data().get("data").get("name").asText());
+    }
+
+    @Test
+    void testUnknownLastEventIdGetsResync() throws Exception {
+        MvcResult feed = subscribe(projectId, 1L);
+
+        List<Event> events = awaitEvents(feed, 1);
+        assertEquals("RESYNC", events.get(0).name());
+        assertEquals(projectId, events.get(0).data().get("projectId").asLong());
+    }
+
+    // A rejected write publishes nothing, the event only exists once the transaction committed
+    // ----------------------------------------------------------
+    @Test
+    void testRolledBackWriteIsNotPublished() throws Exception {
+        long taskId = createTask(projectId, "Guarded");
+        MvcResult feed = subscribe(projectId, null);
+        awaitEvents(feed, 1);
+
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"999\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Lost\",\"description\":\"desc\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/projects/{id}", projectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed feed\",\"description\":\"desc\"}"))
+                .andExpect(status().isOk());
+
+        List<Event> events = awaitEvents(feed, 2);
+        assertEquals(List.of("RESYNC", "PROJECT_UPDATED"), events.stream().map(Event::name).toList());
+        assertEquals("Renamed feed", events.get(1).data().get("data").get("name").asText());
+    }
+
+    @Test
+    void testProjectDeletedEndsFeed() throws Exception {
+        MvcResult feed = subscribe(projectId, null);
+        awaitEvents(feed, 1);
+
+        mockMvc.perform(delete("/projects/{id}", projectId))
+                .andExpect(status().isOk());
+
+        assertEquals("PROJECT_DELETED", awaitEvents(feed, 2).get(1).name());
+    }
+
+    @Test
+    void testSubscribeUnknownProject() throws Exception {
+        // excpected failure and excpection thrown
+        mockMvc.perform(get("/projects/{id}/changes", 999_999))
+                .andExpect(status().isNotFound());
+    }
+
+    private MvcResult subscribe(long id, Long lastEventId) throws Exception {
+        var request = get("/projects/{id}/changes", id);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // Waits until the stream holds at least count events, then returns all of them
+    private List<Event> awaitEvents(MvcResult feed, int count) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<Event> events = parse(feed.getResponse().getContentAsString());
+        while (events.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            events = parse(feed.getResponse().getContentAsString());
+        }
+        assertEquals(count, events.size(), "events received: " + events);
+        return events;
+    }
+
+    // Only complete blocks, the last one may still be written
+    private List<Event> parse(String stream) throws Exception {
+        List<Event> events = new ArrayList<>();
+        int end = stream.lastIndexOf("\n\n");
+        if (end < 0) {
+            return events;
+        }
+        for (String block : stream.substring(0, end).split("\n\n")) {
+            long id = 0;
+            String name = null;
+            JsonNode data = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = Long.parseLong(line.substring(3));
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data = objectMapper.readTree(line.substring(5));
+                }
+            }
+            if (name != null) {
+                events.add(new Event(id, name, data));
+            }
+        }
+        return events;
+    }
+
+    private long createProject(String name) throws Exception {
+        return readId(mockMvc.perform(post("/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"description\":\"Change feed\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    private long createTask(long id, String title) throws Exception {
+        return readId(mockMvc.perform(post("/projects/{id}/tasks", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"description\":\"desc\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    private long readId(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
@@ -0,0 +1,137 @@
+package com.projectmanagementapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long projectId;
+    private long taskId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        projectId = readId(mockMvc.perform(post("/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"ETag\",\"description\":\"Conditional requests\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+
+        taskId = readId(mockMvc.perform(post("/projects/{id}/tasks", projectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Poll me\",\"description\":\"desc\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    // Conditional GET - a matching If-None-Match is answered with an empty 304
+    // ----------------------------------------------------------
+    @Test
+    void testGetTaskRevalidation() throws Exception {
+        String etag = mockMvc.perform(get("/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/tasks/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, "\"999\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void testGetProjectRevalidation() throws Exception {
+        String etag = mockMvc.perform(get("/projects/{id}", projectId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/projects/{id}", projectId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // The project representation embeds its tasks, so a task edit changes the project ETag
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"description\":\"desc\"}"))
+                .andExpect(status().isOk());
+
+        String newEtag = mockMvc.perform(get("/projects/{id}", projectId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value("Renamed"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    // Conditional PUT - a stale If-Match is rejected, the current one is applied
+    // ----------------------------------------------------------
+    @Test
+    void testUpdateTaskWithIfMatch() throws Exception {
+        String etag = mockMvc.perform(get("/tasks/{id}", taskId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updatedEtag = mockMvc.perform(put("/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"First writer\",\"description\":\"desc\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, updatedEtag);
+
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Second writer\",\"description\":\"desc\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/tasks/{id}", taskId))
+                .andExpect(jsonPath("$.title").value("First writer"));
+    }
+
+    @Test
+    void testUpdateProjectWithIfMatch() throws Exception {
+        mockMvc.perform(put("/projects/{id}", projectId)
+                        .header(HttpHeaders.IF_MATCH, "\"999\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Stale\",\"description\":\"desc\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        String etag = mockMvc.perform(get("/projects/{id}", projectId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/projects/{id}", projectId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Fresh\",\"description\":\"desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Fresh"));
+    }
+
+    private long readId(MvcResult result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asLong();
+    }
+}
@@ -0,0 +1,83 @@
+package com.projectmanagementapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Service timers and per-request statement counts are recorded for a request
+    // ----------------------------------------------------------
+    @Test
+    void testRequestIsTimedAndStatementsAreCounted() throws Exception {
+        long projectId = createProject();
+
+        mockMvc.perform(get("/projects/{id}/tasks", projectId))
+                .andExpect(status().isOk());
+
+        Timer serviceTimer = meterRegistry.get("app.service")
+                .tag("class", "com.projectmanagementapi.service.TaskService")
+                .tag("method", "getTasksForProject")
+                .timer();
+        assertTrue(serviceTimer.count() >= 1);
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.statements")
+                .tag("method", "GET")
+                .tag("uri", "/projects/{projectId}/tasks")
+                .summary();
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.max() >= 1);
+    }
+
+    // Prometheus scrape contains HTTP histograms, pool, Hibernate and repository metrics
+    // ----------------------------------------------------------
+    @Test
+    void testPrometheusEndpoint() throws Exception {
+        long projectId = createProject();
+        mockMvc.perform(get("/projects/{id}", projectId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("app_service_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")))
+                .andExpect(content().string(containsString("http_server_requests_statements")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+
+    private long createProject() throws Exception {
+        String body = mockMvc.perform(post("/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Metrics\",\"description\":\"Instrumented\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,218 @@
+package com.projectmanagementapi.controller;
+
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.service.ProjectService;
+import com.projectmanagementapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The routes are bound directly, the Netty server itself only starts next to a real servlet server.
+// Data is written through the JPA services and read back over R2DBC from the same database.
+@SpringBootTest
+class ReactiveReadRoutesTest {
+
+    @Autowired
+    private RouterFunction<ServerResponse> reactiveReadRoutes;
+
+    @Autowired
+    private HandlerStrategies reactiveHandlerStrategies;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private WebTestClient client;
+
+    private ProjectResponseDto project;
+    private TaskResponseDto first;
+
+    @BeforeEach
+    void setup() {
+        client = WebTestClient.bindToRouterFunction(reactiveReadRoutes)
+                .handlerStrategies(reactiveHandlerStrategies)
+                .build();
+
+        Project newProject = new Project();
+        newProject.setName("Reactive");
+        newProject.setDescription("Read over R2DBC");
+        project = projectService.createProject(newProject);
+
+        first = taskService.createTask(project.id(), newTask("First", TaskStatus.TODO));
+        taskService.createTask(project.id(), newTask("Second", TaskStatus.DONE));
+        taskService.createTask(project.id(), newTask("Third", TaskStatus.DONE));
+    }
+
+    // Fetch task by id - same body and ETag as the MVC endpoint
+    // ----------------------------------------------------------
+    @Test
+    void testGetTask() {
+        client.get().uri("/tasks/{id}", first.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + first.version() + "\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(first.id())
+                .jsonPath("$.title").isEqualTo("First")
+                .jsonPath("$.status").isEqualTo("TODO")
+                .jsonPath("$.projectId").isEqualTo(project.id())
+                .jsonPath("$.version").doesNotExist();
+    }
+
+    @Test
+    void testGetTaskNotFound() {
+        // excpected failure and excpection thrown
+        client.get().uri("/tasks/{id}", 999_999)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Task not found with id 999999")
+                .jsonPath("$.path").isEqualTo("uri=/tasks/999999");
+
+        client.get().uri("/tasks/abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value 'abc' for parameter 'taskId'");
+    }
+
+    // Fetch tasks for a project - paged JSON, filtered by status
+    // ----------------------------------------------------------
+    @Test
+    void testGetTasksForProjectPaged() {
+        client.get().uri("/projects/{id}/tasks?status=DONE&page=0&size=1", project.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].title").isEqualTo("Second")
+                .jsonPath("$.page").isEqualTo(0)
+                .jsonPath("$.size").isEqualTo(1)
+                .jsonPath("$.total").isEqualTo(2);
+
+        // Empty page of an existing project, still 200 with the total
+        client.get().uri("/projects/{id}/tasks?page=5&size=10", project.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(0)
+                .jsonPath("$.total").isEqualTo(3);
+    }
+
+    // Page size above the MVC maximum - excpected failure and excpection thrown
+    @Test
+    void testPageSizeIsCapped() {
+        client.get().uri("/projects/{id}/tasks?size=101", project.id())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Page must be >= 0 and size between 1 and 100");
+
+        client.get().uri("/projects?size=101")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetTasksForProjectNotFound() {
+        // excpected failure and excpection thrown
+        client.get().uri("/projects/{id}/tasks", 999_999)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        client.get().uri("/projects/{id}/tasks?status=LATER", project.id())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value 'LATER' for parameter 'status'");
+    }
+
+    // NDJSON - every task of the project is streamed, in id order
+    // ----------------------------------------------------------
+    @Test
+    void testStreamTasksForProject() {
+        List<TaskResponseDto> streamed = client.get().uri("/projects/{id}/tasks", project.id())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(streamed);
+        assertEquals(List.of("First", "Second", "Third"), streamed.stream().map(TaskResponseDto::title).toList());
+    }
+
+    // Fetch all projects - tasks and counters are included like in the MVC response. Other tests add projects as
+    // well, the project of this test is the newest one and therefore on the last page of size 1
+    // ----------------------------------------------------------
+    @Test
+    void testGetAllProjects() {
+        long total = projectService.getAllProjects(0, 1).getTotal();
+
+        client.get().uri("/projects?page={page}&size=1", total - 1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].id").isEqualTo(project.id())
+                .jsonPath("$.items[0].name").isEqualTo("Reactive")
+                .jsonPath("$.items[0].taskStats.done").isEqualTo(2)
+                .jsonPath("$.items[0].taskStats.total").isEqualTo(3)
+                .jsonPath("$.items[0].tasks.length()").isEqualTo(3)
+                .jsonPath("$.page").isEqualTo(total - 1)
+                .jsonPath("$.total").isEqualTo(total);
+
+        client.get().uri("/projects?size=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    // NDJSON - every project is streamed with its tasks, in id order
+    @Test
+    void testStreamAllProjects() {
+        List<ProjectResponseDto> streamed = client.get().uri("/projects")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProjectResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(streamed);
+        assertEquals(projectService.getAllProjects(0, 1).getTotal(), streamed.size());
+        ProjectResponseDto last = streamed.get(streamed.size() - 1);
+        assertEquals(project.id(), last.id());
+        assertEquals(List.of("First", "Second", "Third"), last.tasks().stream().map(TaskResponseDto::title).toList());
+    }
+
+    private Task newTask(String title, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        task.setStatus(status);
+        return task;
+    }
+}
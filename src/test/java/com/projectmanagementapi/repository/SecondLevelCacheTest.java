@@ -0,0 +1,159 @@
+package com.projectmanagementapi.repository;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Entries only reach the second-level cache on commit, so every repository call here runs in its own transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private Project project;
+
+    @BeforeEach
+    void setup() {
+        project = new Project();
+        project.setName("Cached");
+        project.setDescription("Second-level cached project");
+        project = projectRepository.save(project);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteTasksByProjectId(project.getId());
+        projectRepository.deleteProjectById(project.getId());
+    }
+
+    // Repeated findById - the first load fills the region, later loads issue no SQL
+    // ----------------------------------------------------------
+    @Test
+    void testRepeatedFindByIdDoesNotHitTheDatabase() {
+        Task task = taskRepository.save(newTask("Cached task"));
+        taskRepository.findById(task.getId());
+        projectRepository.findById(project.getId());
+
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Cached task", taskRepository.findById(task.getId()).orElseThrow().getTitle());
+            assertEquals("Cached", projectRepository.findById(project.getId()).orElseThrow().getName());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(6, statistics.getSecondLevelCacheHitCount());
+    }
+
+    // Project.tasks - cached as a list of ids, evicted when a task is added through Task.project
+    // ----------------------------------------------------------
+    @Test
+    void testTasksCollectionIsCachedAndEvictedOnInsert() {
+        taskRepository.save(newTask("First"));
+        assertEquals(1, countTasksThroughCollection());
+
+        statistics.clear();
+        assertEquals(1, countTasksThroughCollection());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        taskRepository.save(newTask("Second"));
+        assertEquals(2, countTasksThroughCollection());
+    }
+
+    // Task listing - the page of ids and its count query are served from the query cache until TASKS changes
+    // ----------------------------------------------------------
+    @Test
+    void testTaskPageAndCountAreCachedUntilTasksChange() {
+        taskRepository.save(newTask("First"));
+        taskRepository.save(newTask("Second"));
+        assertEquals(2, taskRepository.findByProject_Id(project.getId(), PageRequest.of(0, 1)).getTotalElements());
+        assertEquals(2, taskRepository.countByProject_Id(project.getId()));
+
+        statistics.clear();
+        assertEquals(2, taskRepository.findByProject_Id(project.getId(), PageRequest.of(0, 1)).getTotalElements());
+        assertEquals(2, taskRepository.countByProject_Id(project.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getQueryCacheHitCount());
+
+        taskRepository.save(newTask("Third"));
+        assertEquals(3, taskRepository.findByProject_Id(project.getId(), PageRequest.of(0, 1)).getTotalElements());
+        assertEquals(3, taskRepository.countByProject_Id(project.getId()));
+    }
+
+    // Bulk HQL updates bypass the entities, Hibernate evicts the affected region
+    // ----------------------------------------------------------
+    @Test
+    void testBulkStatusUpdateEvictsCachedTasks() {
+        Task task = taskRepository.save(newTask("Bulk"));
+        taskRepository.findById(task.getId());
+
+        taskRepository.updateStatusByIds(Set.of(task.getId()), TaskStatus.DONE, 1L);
+
+        assertEquals(TaskStatus.DONE, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    // Entity delete - only the deleted task leaves the region, the other cached tasks are still served from it
+    // ----------------------------------------------------------
+    @Test
+    void testEntityDeleteKeepsOtherCachedTasks() {
+        Task deleted = taskRepository.save(newTask("Deleted"));
+        Task kept = taskRepository.save(newTask("Kept"));
+        taskRepository.findById(kept.getId());
+
+        taskRepository.delete(taskRepository.findById(deleted.getId()).orElseThrow());
+
+        statistics.clear();
+        assertEquals("Kept", taskRepository.findById(kept.getId()).orElseThrow().getTitle());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertTrue(taskRepository.findById(deleted.getId()).isEmpty());
+    }
+
+    private int countTasksThroughCollection() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                projectRepository.findById(project.getId()).orElseThrow().getTasks().size());
+    }
+
+    private Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        task.setStatus(TaskStatus.TODO);
+        task.setProject(project);
+        return task;
+    }
+}
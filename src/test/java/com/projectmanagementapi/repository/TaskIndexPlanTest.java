@@ -0,0 +1,152 @@
+package com.projectmanagementapi.repository;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Captures the SQL the repository methods generate (statement inspector, registered like StatementCounter) and runs
+// H2's EXPLAIN on it with the same parameter values bound, H2 plans LIKE prefixes per execution from the values
+@DataJpaTest
+@Import(CacheConfig.class)
+class TaskIndexPlanTest {
+
+    private static final int PROJECTS = 20;
+    private static final int TASKS_PER_PROJECT = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CapturingInspector inspector;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.setDescription("Desc " + i);
+            entityManager.persist(project);
+            projectId = project.getId();
+
+            for (int j = 0; j < TASKS_PER_PROJECT; j++) {
+                Task task = new Task();
+                task.setTitle("Task " + j);
+                task.setDescription("Task desc " + j);
+                task.setStatus(TaskStatus.values()[j % TaskStatus.values().length]);
+                task.setProject(project);
+                entityManager.persist(task);
+            }
+        }
+        entityManager.flush();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+        inspector.statements.clear();
+    }
+
+    // Status filter - project and status are both conditions of the composite index, for the page and its count
+    // ----------------------------------------------------------
+    @Test
+    void testStatusFilterUsesProjectStatusIndex() {
+        taskRepository.findByProject_IdAndTaskStatus(projectId, TaskStatus.DONE, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(2, inspector.statements.size(), inspector.statements::toString);
+        for (String sql : inspector.statements) {
+            String plan = explain(sql, projectId, TaskStatus.DONE.name(), 0, 10);
+
+            assertTrue(indexCondition(plan).startsWith("PUBLIC.IDX_TASKS_PROJECT_STATUS:"), plan);
+            assertTrue(indexCondition(plan).contains("PROJECT_ID = ?1"), plan);
+            assertTrue(indexCondition(plan).contains("TASK_STATUS = ?2"), plan);
+        }
+    }
+
+    // Title prefix filter - the LIKE prefix becomes a range on the project/title index
+    // ----------------------------------------------------------
+    @Test
+    void testTitlePrefixFilterUsesProjectTitleIndex() {
+        taskRepository.findByProject_IdAndTitleStartingWith(projectId, "Task 1",
+                PageRequest.of(0, 10, Sort.by("title", "id")));
+
+        assertEquals(2, inspector.statements.size(), inspector.statements::toString);
+        for (String sql : inspector.statements) {
+            // Spring Data appends % to the escaped prefix and binds the escape character
+            String plan = explain(sql, projectId, "Task 1%", "\\", 0, 10);
+
+            assertTrue(indexCondition(plan).startsWith("PUBLIC.IDX_TASKS_PROJECT_TITLE:"), plan);
+            assertTrue(indexCondition(plan).contains("PROJECT_ID = ?1"), plan);
+            assertTrue(indexCondition(plan).contains("TITLE >= 'Task 1'"), plan);
+        }
+    }
+
+    // Binds the values in the order of the ? placeholders, the count query uses only the first ones
+    private String explain(String sql, Object... values) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int count = statement.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < count; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    // H2 prints the chosen index and its conditions as a comment under the FROM clause
+    private String indexCondition(String plan) {
+        int start = plan.indexOf("/*");
+        return plan.substring(start + 2, plan.indexOf("*/", start)).trim();
+    }
+
+    static class CapturingInspector implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class CapturingInspectorConfig {
+
+        @Bean
+        CapturingInspector capturingInspector() {
+            return new CapturingInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer capturingInspectorCustomizer(CapturingInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.dto.ChangeEventDto;
+import com.projectmanagementapi.model.Project;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs on a real server: a client that stops reading only stalls on a socket whose buffers are full
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.changes.queue-size=8", "app.changes.max-subscribers=2", "app.changes.heartbeat-ms=100"})
+class ChangeFeedServiceTest {
+
+    private static final int EVENTS = 300;
+    private static final int MAX_SUBSCRIBERS = 2;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // A stalled subscriber falls behind and gets RESYNC, the other subscriber of the project still gets every event
+    // ----------------------------------------------------------
+    @Test
+    void testStalledSubscriberDoesNotDelayOthers() throws Exception {
+        Long projectId = createProject("Stalled feed");
+        awaitCount(() -> MAX_SUBSCRIBERS - changeFeedService.subscriberCount(), MAX_SUBSCRIBERS);
+        double overflowsBefore = meterRegistry.counter("app.changes.overflows").count();
+
+        try (Socket stalled = new Socket()) {
+            stalled.setReceiveBufferSize(4096);
+            stalled.connect(new InetSocketAddress("localhost", port));
+            OutputStream request = stalled.getOutputStream();
+            request.write(("GET /projects/" + projectId + "/changes HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            request.flush();
+
+            URI feed = URI.create("http://localhost:" + port + "/projects/" + projectId + "/changes");
+            HttpResponse<InputStream> healthy = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(feed).header("Accept", "text/event-stream").build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            AtomicInteger received = new AtomicInteger();
+            CompletableFuture.runAsync(() -> countTaskEvents(healthy, received));
+            awaitCount(changeFeedService::subscriberCount, 2);
+
+            // 64 KB per event, far more than the stalled socket's buffers take. The next event is only published
+            // once the healthy client read the previous one, so its own queue never fills up
+            String payload = "x".repeat(64 * 1024);
+            for (int i = 0; i < EVENTS; i++) {
+                changeFeedService.onChange(
+                        new ChangeEvent(ChangeEventDto.Type.TASK_UPDATED, projectId, (long) i, (long) i, payload));
+                awaitCount(received::get, i + 1);
+            }
+
+            assertTrue(meterRegistry.counter("app.changes.overflows").count() > overflowsBefore);
+        }
+    }
+
+    // Past max-subscribers - excpected failure, 503 until one of the open streams is closed
+    // ----------------------------------------------------------
+    @Test
+    void testSubscribersPastTheCapAreRejected() throws Exception {
+        Long projectId = createProject("Capped feed");
+        // Streams of the other test are noticed as closed by the next heartbeat
+        awaitCount(() -> MAX_SUBSCRIBERS - changeFeedService.subscriberCount(), MAX_SUBSCRIBERS);
+        double rejectedBefore = meterRegistry.counter("app.changes.rejected").count();
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<InputStream> first = subscribe(client, projectId);
+        HttpResponse<InputStream> second = subscribe(client, projectId);
+        HttpResponse<InputStream> rejected = subscribe(client, projectId);
+        rejected.body().close();
+        try (InputStream secondBody = second.body()) {
+            assertEquals(200, first.statusCode());
+            assertEquals(200, second.statusCode());
+            assertEquals(503, rejected.statusCode());
+            assertEquals(rejectedBefore + 1, meterRegistry.counter("app.changes.rejected").count());
+
+            first.body().close();
+            awaitCount(() -> MAX_SUBSCRIBERS - changeFeedService.subscriberCount(), 1);
+            HttpResponse<InputStream> third = subscribe(client, projectId);
+            third.body().close();
+            assertEquals(200, third.statusCode());
+        }
+    }
+
+    private Long createProject(String name) {
+        Project project = new Project();
+        project.setName(name);
+        project.setDescription("Change feed");
+        return projectService.createProject(project).id();
+    }
+
+    private HttpResponse<InputStream> subscribe(HttpClient client, Long projectId) throws Exception {
+        URI feed = URI.create("http://localhost:" + port + "/projects/" + projectId + "/changes");
+        return client.send(HttpRequest.newBuilder(feed).header("Accept", "text/event-stream").build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    // Reads until EVENTS task events were streamed
+    private void countTaskEvents(HttpResponse<InputStream> response, AtomicInteger received) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while (received.get() < EVENTS && (line = reader.readLine()) != null) {
+                if (line.equals("event:TASK_UPDATED")) {
+                    received.incrementAndGet();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitCount(IntSupplier actual, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (actual.getAsInt() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, actual.getAsInt());
+    }
+}
@@ -0,0 +1,115 @@
+package com.projectmanagementapi.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EntityCacheTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private ProjectResponseDto project;
+
+    @BeforeEach
+    void setup() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Project newProject = new Project();
+        newProject.setName("Cached");
+        newProject.setDescription("Cached project");
+        project = projectService.createProject(newProject);
+    }
+
+    // Repeated reads are served from the cache
+    // ----------------------------------------------------------
+    @Test
+    void testGetTaskByIdIsCached() {
+        TaskResponseDto created = taskService.createTask(project.id(), newTask("Cache me"));
+        long hitsBefore = stats(CacheConfig.TASKS).hitCount();
+
+        taskService.getTaskById(created.id());
+        taskService.getTaskById(created.id());
+
+        assertEquals(hitsBefore + 2, stats(CacheConfig.TASKS).hitCount());
+    }
+
+    // Task writes invalidate both the task and its parent project
+    // ----------------------------------------------------------
+    @Test
+    void testUpdateTaskInvalidatesCachedEntries() {
+        TaskResponseDto created = taskService.createTask(project.id(), newTask("Before"));
+        assertEquals(1, projectService.getProjectById(project.id()).tasks().size());
+
+        taskService.updateTask(created.id(), newTask("After"), null);
+
+        assertEquals("After", taskService.getTaskById(created.id()).title());
+        assertEquals("After", projectService.getProjectById(project.id()).tasks().get(0).title());
+    }
+
+    // Bulk status updates bypass the entities but must not leave stale cache entries
+    // ----------------------------------------------------------
+    @Test
+    void testBulkStatusUpdateInvalidatesCachedEntries() {
+        TaskResponseDto first = taskService.createTask(project.id(), newTask("First"));
+        TaskResponseDto second = taskService.createTask(project.id(), newTask("Second"));
+        taskService.getTaskById(first.id());
+        projectService.getProjectById(project.id());
+
+        taskService.updateTaskStatuses(Set.of(first.id()), TaskStatus.IN_PROGRESS);
+        assertEquals(TaskStatus.IN_PROGRESS, taskService.getTaskById(first.id()).status());
+
+        int updated = taskService.updateProjectTaskStatuses(project.id(), null, TaskStatus.DONE);
+        assertEquals(2, updated);
+        assertEquals(TaskStatus.DONE, taskService.getTaskById(second.id()).status());
+        projectService.getProjectById(project.id()).tasks()
+                .forEach(task -> assertEquals(TaskStatus.DONE, task.status()));
+    }
+
+    // Project delete cascades to the cached tasks
+    // ----------------------------------------------------------
+    @Test
+    void testDeleteProjectInvalidatesCachedTasks() {
+        TaskResponseDto created = taskService.createTask(project.id(), newTask("Doomed"));
+        taskService.getTaskById(created.id());
+
+        projectService.deleteProject(project.id());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(created.id()));
+        assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectById(project.id()));
+    }
+
+    private CacheStats stats(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache().stats();
+    }
+
+    private Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        task.setStatus(TaskStatus.TODO);
+        return task;
+    }
+}
@@ -0,0 +1,180 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.CountMode;
+import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.ProjectSummaryDto;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProjectService.class, RevisionSequence.class, CacheConfig.class})
+class ProjectServiceQueryCountTest {
+
+    private static final int PROJECTS = 30;
+    private static final int TASKS_PER_PROJECT = 3;
+    private static final int LARGE_PROJECT_TASKS = 5_000;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.setDescription("Desc " + i);
+            entityManager.persist(project);
+            projectIds.add(project.getId());
+
+            for (int j = 0; j < TASKS_PER_PROJECT; j++) {
+                Task task = new Task();
+                task.setTitle("Task " + j);
+                task.setDescription("Task desc " + j);
+                task.setStatus(TaskStatus.values()[j % TaskStatus.values().length]);
+                task.setProject(project);
+                entityManager.persist(task);
+            }
+        }
+        entityManager.flush();
+        // Tasks are persisted directly, bypassing TaskService, so the counters are derived once here
+        projectRepository.recountTaskCounts(projectIds, 0L);
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    // Listing projects - statement count must not depend on page size
+    // ----------------------------------------------------------
+    @Test
+    void testGetAllProjectsStatementCountIsConstant() {
+        long smallPage = countStatements(0, 5);
+        long largePage = countStatements(0, 25);
+
+        assertEquals(smallPage, largePage);
+        // page query + count query + one batched task query
+        assertEquals(3, largePage);
+    }
+
+    // Listing projects without the exact count - the page query fetches one extra row instead
+    // ----------------------------------------------------------
+    @Test
+    void testGetAllProjectsWithoutCount() {
+        statistics.clear();
+        PagedResponse<ProjectResponseDto> first = projectService.getAllProjects(0, 5, CountMode.NONE);
+
+        // page query + one batched task query
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(5, first.getItems().size());
+        assertNull(first.getTotal());
+        assertTrue(first.getHasNext());
+
+        PagedResponse<ProjectResponseDto> last = projectService.getAllProjects(PROJECTS / 5 - 1, 5, CountMode.NONE);
+        assertFalse(last.getHasNext());
+    }
+
+    @Test
+    void testGetAllProjectsEstimatedCount() {
+        PagedResponse<ProjectResponseDto> response = projectService.getAllProjects(0, 5, CountMode.ESTIMATED);
+
+        assertEquals(5, response.getItems().size());
+        assertEquals(PROJECTS, response.getTotal());
+        assertNull(response.getHasNext());
+    }
+
+    @Test
+    void testGetAllProjectsReturnsTasksOfEachProject() {
+        PagedResponse<ProjectResponseDto> response = projectService.getAllProjects(0, PROJECTS);
+
+        assertEquals(PROJECTS, response.getItems().size());
+        response.getItems().forEach(project ->
+                assertEquals(TASKS_PER_PROJECT, project.tasks().size()));
+    }
+
+    // Project summaries - counts read from the project counters without loading any Task entity
+    // ----------------------------------------------------------
+    @Test
+    void testGetProjectSummariesDoesNotLoadTasks() {
+        entityManager.clear();
+        statistics.clear();
+
+        PagedResponse<ProjectSummaryDto> response = projectService.getProjectSummaries(0, 10);
+
+        assertEquals(10, response.getItems().size());
+        assertEquals(PROJECTS, response.getTotal());
+        response.getItems().forEach(summary -> {
+            assertEquals(1L, summary.todoCount());
+            assertEquals(1L, summary.inProgressCount());
+            assertEquals(1L, summary.doneCount());
+        });
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    // Deleting a large project - two bulk statements and the tombstone insert, no task is loaded
+    // ----------------------------------------------------------
+    @Test
+    void testDeleteLargeProjectUsesBulkStatements() {
+        Project large = new Project();
+        large.setName("Large");
+        large.setDescription("Large project");
+        entityManager.persist(large);
+        for (int i = 0; i < LARGE_PROJECT_TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Task desc " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setProject(large);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        projectService.deleteProject(large.getId());
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertNull(entityManager.find(Project.class, large.getId()));
+        assertEquals(0L, entityManager
+                .createQuery("select count(t) from Task t where t.project.id = :id", Long.class)
+                .setParameter("id", large.getId())
+                .getSingleResult());
+    }
+
+    private long countStatements(int page, int size) {
+        entityManager.clear();
+        statistics.clear();
+
+        PagedResponse<ProjectResponseDto> response = projectService.getAllProjects(page, size);
+        assertEquals(size, response.getItems().size());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
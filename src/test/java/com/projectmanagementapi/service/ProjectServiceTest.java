@@ -1,14 +1,21 @@
 package com.projectmanagementapi.service;
 
 import com.projectmanagementapi.dto.ProjectResponseDto;
+import com.projectmanagementapi.dto.ProjectSummaryDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
+import com.projectmanagementapi.exception.PreconditionFailedException;
 import com.projectmanagementapi.exception.ResourceNotFoundException;
 import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Tombstone;
 import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import com.projectmanagementapi.repository.TombstoneRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.util.List;
@@ -23,6 +30,18 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RevisionSequence revisionSequence;
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -81,6 +100,45 @@ class ProjectServiceTest {
 
         var result = projectService.getAllProjects(0, 10);
         assertEquals(2, result.getItems().size());
+        verify(taskRepository, times(1)).findByProject_IdIn(anyList());
+    }
+
+    // Get project summaries
+    // ----------------------------------------------------------
+    @Test
+    void testGetProjectSummaries() {
+        ProjectSummaryDto summary = new ProjectSummaryDto(1L, "A", "Desc", 2L, 1L, 0L);
+
+        Page<ProjectSummaryDto> page = new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1);
+        when(projectRepository.findAllSummaries(PageRequest.of(0, 10))).thenReturn(page);
+
+        var result = projectService.getProjectSummaries(0, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(2L, result.getItems().get(0).todoCount());
+        verifyNoInteractions(taskRepository);
+    }
+
+    // Get project task stats
+    // ----------------------------------------------------------
+    @Test
+    void testGetTaskStats() {
+        when(projectRepository.findTaskStats(1L)).thenReturn(Optional.of(new TaskStatsDto(2, 1, 4)));
+
+        TaskStatsDto stats = projectService.getTaskStats(1L);
+
+        assertEquals(2, stats.todo());
+        assertEquals(7, stats.total());
+        verifyNoInteractions(taskRepository);
+    }
+
+    // Get task stats of a non existing project - excpected failure and excpection thrown
+    @Test
+    void testGetTaskStatsNotFound() {
+        when(projectRepository.findTaskStats(5L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                projectService.getTaskStats(5L));
     }
 
     //Update project
@@ -95,13 +153,28 @@ class ProjectServiceTest {
         updated.setName("New Name");
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(projectRepository.save(existing)).thenReturn(existing);
+        when(projectRepository.saveAndFlush(existing)).thenReturn(existing);
 
-        ProjectResponseDto result = projectService.updateProject(1L, updated);
+        ProjectResponseDto result = projectService.updateProject(1L, updated, null);
 
         assertEquals("New Name", result.name());
     }
 
+    // Update with a stale version - excpected failure and excpection thrown
+    // ----------------------------------------------------------
+    @Test
+    void testUpdateProjectStaleVersion() {
+        Project existing = new Project();
+        existing.setId(1L);
+        existing.setVersion(5L);
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        assertThrows(PreconditionFailedException.class, () ->
+                projectService.updateProject(1L, new Project(), 4L));
+        verify(projectRepository, never()).saveAndFlush(any());
+    }
+
     // Update non existing project - excpected failure and excpection thrown
     // ----------------------------------------------------------
     @Test
@@ -112,24 +185,29 @@ class ProjectServiceTest {
         when(projectRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
-                projectService.updateProject(10L, updated));
+                projectService.updateProject(10L, updated, null));
     }
 
     // Delete project
     // ----------------------------------------------------------
     @Test
     void testDeleteProjectSuccess() {
-        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.deleteTasksByProjectId(1L)).thenReturn(3);
+        when(projectRepository.deleteProjectById(1L)).thenReturn(1);
 
         projectService.deleteProject(1L);
 
-        verify(projectRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).deleteTasksByProjectId(1L);
+        verify(projectRepository, times(1)).deleteProjectById(1L);
+        verify(projectRepository, never()).findById(anyLong());
+        verify(tombstoneRepository).save(argThat(tombstone -> tombstone.getEntityType() == Tombstone.EntityType.PROJECT
+                && tombstone.getEntityId() == 1L));
     }
 
     // Detlete non existing project - excpected failure and excpection thrown
     @Test
     void testDeleteProjectNotFound() {
-        when(projectRepository.existsById(5L)).thenReturn(false);
+        when(projectRepository.deleteProjectById(5L)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () ->
                 projectService.deleteProject(5L));
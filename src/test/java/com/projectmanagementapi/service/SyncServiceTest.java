@@ -0,0 +1,164 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.SyncResponseDto;
+import com.projectmanagementapi.dto.TaskSyncDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Every service call commits its own transaction and revision, so the test itself runs without one
+@DataJpaTest
+@Import({SyncService.class, TaskService.class, TaskWriteBehindQueue.class, ProjectService.class,
+        RevisionSequence.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private RevisionSequence revisionSequence;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setup() {
+        projectId = projectService.createProject(project("Sync")).id();
+    }
+
+    // Full sync - since = 0 returns the project and all of its tasks
+    // ----------------------------------------------------------
+    @Test
+    void testFullSync() {
+        Long first = taskService.createTask(projectId, task("First")).id();
+        Long second = taskService.createTask(projectId, task("Second")).id();
+
+        SyncResponseDto response = syncService.getChangesSince(projectId, 0);
+
+        assertFalse(response.deleted());
+        assertEquals(projectId, response.project().id());
+        assertEquals(2L, response.project().taskStats().todo());
+        assertEquals(List.of(first, second), response.tasks().stream().map(TaskSyncDto::id).toList());
+        assertTrue(response.deletedTaskIds().isEmpty());
+        assertEquals(revisionSequence.committed(), response.revision());
+        response.tasks().forEach(task -> assertTrue(task.revision() <= response.revision()));
+    }
+
+    // Delta sync - only the tasks written after the client's revision, plus the ids deleted since
+    // ----------------------------------------------------------
+    @Test
+    void testDeltaSyncReturnsOnlyChanges() {
+        Long unchanged = taskService.createTask(projectId, task("Unchanged")).id();
+        Long updated = taskService.createTask(projectId, task("Updated")).id();
+        Long deleted = taskService.createTask(projectId, task("Deleted")).id();
+        long since = syncService.getChangesSince(projectId, 0).revision();
+
+        taskService.updateTaskStatuses(Set.of(updated), TaskStatus.DONE);
+        taskService.deleteTask(deleted);
+        Long created = taskService.createTask(projectId, task("Created")).id();
+
+        SyncResponseDto response = syncService.getChangesSince(projectId, since);
+
+        assertEquals(List.of(updated, created), response.tasks().stream().map(TaskSyncDto::id).toList());
+        assertEquals(TaskStatus.DONE, response.tasks().get(0).status());
+        assertEquals(List.of(deleted), response.deletedTaskIds());
+        assertNotNull(response.project());
+        assertEquals(1L, response.project().taskStats().done());
+        assertFalse(response.tasks().stream().anyMatch(task -> task.id().equals(unchanged)));
+
+        SyncResponseDto upToDate = syncService.getChangesSince(projectId, response.revision());
+        assertNull(upToDate.project());
+        assertTrue(upToDate.tasks().isEmpty());
+        assertTrue(upToDate.deletedTaskIds().isEmpty());
+    }
+
+    @Test
+    void testDeletedProjectIsReported() {
+        taskService.createTask(projectId, task("Gone"));
+        projectService.deleteProject(projectId);
+
+        SyncResponseDto response = syncService.getChangesSince(projectId, 0);
+
+        assertTrue(response.deleted());
+        assertNull(response.project());
+        assertTrue(response.tasks().isEmpty());
+    }
+
+    @Test
+    void testSyncUnknownProject() {
+        // excpected failure and excpection thrown
+        assertThrows(ResourceNotFoundException.class, () -> syncService.getChangesSince(999_999L, 0));
+    }
+
+    @Test
+    void testSyncUnknownRevision() {
+        // excpected failure and excpection thrown
+        assertThrows(BadRequestException.class, () -> syncService.getChangesSince(projectId, -1));
+        assertThrows(BadRequestException.class,
+                () -> syncService.getChangesSince(projectId, revisionSequence.committed() + 1));
+    }
+
+    // A write that committed while an older revision is still in flight is held back until that one completes,
+    // otherwise a client could sync past the older revision and never see it
+    // ----------------------------------------------------------
+    @Test
+    void testWritesAfterInFlightRevisionAreHeldBack() {
+        long since = syncService.getChangesSince(projectId, 0).revision();
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Long taskId = new TransactionTemplate(transactionManager).execute(status -> {
+            long inFlight = revisionSequence.current();
+            Long id = inner.execute(innerStatus -> taskService.createTask(projectId, task("Early")).id());
+
+            assertEquals(inFlight - 1, revisionSequence.committed());
+            assertTrue(syncService.getChangesSince(projectId, since).tasks().isEmpty());
+            return id;
+        });
+
+        assertEquals(List.of(taskId),
+                syncService.getChangesSince(projectId, since).tasks().stream().map(TaskSyncDto::id).toList());
+    }
+
+    private Project project(String name) {
+        Project project = new Project();
+        project.setName(name);
+        project.setDescription("Delta sync");
+        return project;
+    }
+
+    private Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        task.setStatus(TaskStatus.TODO);
+        return task;
+    }
+}
@@ -0,0 +1,77 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TaskExportService.class, CacheConfig.class, JacksonAutoConfiguration.class})
+class TaskExportServiceTest {
+
+    private static final int TASKS = 250;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setup() {
+        project = new Project();
+        project.setName("Export");
+        project.setDescription("Export project");
+        entityManager.persist(project);
+
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Task desc " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setProject(project);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // Export writes one JSON line per task and leaves nothing in the persistence context
+    // ----------------------------------------------------------
+    @Test
+    void testExportTasksWritesNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = taskExportService.exportTasks(project.getId(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(TASKS, exported);
+        assertEquals(TASKS, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":"));
+        assertTrue(lines[0].contains("\"title\":\"Task 0\""));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    // Export for a non existing project - excpected failure and excpection thrown
+    @Test
+    void testRequireProjectNotFound() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskExportService.requireProject(project.getId() + 1000));
+    }
+}
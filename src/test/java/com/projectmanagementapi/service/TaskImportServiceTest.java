@@ -0,0 +1,160 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.TaskImportResultDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TaskImportService.class, RevisionSequence.class, CacheConfig.class, JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class TaskImportServiceTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setup() {
+        project = new Project();
+        project.setName("Import");
+        project.setDescription("Import project");
+        entityManager.persist(project);
+        entityManager.flush();
+    }
+
+    // NDJSON import - valid rows are committed in chunks, invalid rows are reported by line
+    // ----------------------------------------------------------
+    @Test
+    void testImportNdjsonReportsRowErrors() throws Exception {
+        String body = """
+                {"title":"First","description":"d1"}
+                {"title":"","description":"d2"}
+                {"title":"Third","description":"d3","status":"DONE"}
+                not json
+
+                {"title":"Fifth","description":"d5","status":"IN_PROGRESS"}
+                """;
+
+        TaskImportResultDto result = taskImportService.importTasks(
+                project.getId(), stream(body), TaskImportService.Format.NDJSON, 2);
+
+        assertEquals(3, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(2L, 4L), result.errors().stream().map(e -> e.line()).toList());
+        assertTrue(result.errors().get(0).message().startsWith("title:"));
+
+        List<Task> tasks = tasksOfProject();
+        assertEquals(List.of("First", "Third", "Fifth"), tasks.stream().map(Task::getTitle).toList());
+        assertEquals(TaskStatus.TODO, tasks.get(0).getStatus());
+        assertEquals(TaskStatus.IN_PROGRESS, tasks.get(2).getStatus());
+    }
+
+    // CSV import - optional header, quoted fields and invalid status
+    // ----------------------------------------------------------
+    @Test
+    void testImportCsv() throws Exception {
+        String body = String.join("\n",
+                "title,description,status",
+                "\"Design, then build\",\"Say \"\"hi\"\"\",DONE",
+                "Plain,No status",
+                "Bad,Row,UNKNOWN");
+
+        TaskImportResultDto result = taskImportService.importTasks(
+                project.getId(), stream(body), TaskImportService.Format.CSV, null);
+
+        assertEquals(2, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(4L, result.errors().get(0).line());
+
+        List<Task> tasks = tasksOfProject();
+        assertEquals("Design, then build", tasks.get(0).getTitle());
+        assertEquals("Say \"hi\"", tasks.get(0).getDescription());
+        assertEquals(TaskStatus.DONE, tasks.get(0).getStatus());
+    }
+
+    // CSV quoted fields may span lines, errors are reported by the line the row starts on
+    // ----------------------------------------------------------
+    @Test
+    void testImportCsvQuotedLineBreaks() throws Exception {
+        String body = "title,description\n"
+                + "\"Multi\nline\",First\n"
+                + "Second,\"a\r\nb\"\r\n"
+                + "Bad,\"never closed\nLost,row";
+
+        TaskImportResultDto result = taskImportService.importTasks(
+                project.getId(), stream(body), TaskImportService.Format.CSV, null);
+
+        assertEquals(2, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(6L, result.errors().get(0).line());
+        assertEquals("Unterminated quoted field", result.errors().get(0).message());
+
+        List<Task> tasks = tasksOfProject();
+        assertEquals("Multi\nline", tasks.get(0).getTitle());
+        assertEquals("a\r\nb", tasks.get(1).getDescription());
+    }
+
+    // Rows over app.tasks.import.max-line-length are skipped up to the next line break, also inside an open quote
+    // ----------------------------------------------------------
+    @Test
+    void testImportSkipsTooLongRows() throws Exception {
+        String ndjson = "{\"title\":\"First\",\"description\":\"d1\"}\n"
+                + "{\"title\":\"" + "x".repeat(20_000) + "\",\"description\":\"d2\"}\n"
+                + "{\"title\":\"Third\",\"description\":\"d3\"}\n";
+        String csv = "\"" + "y".repeat(20_000) + "\nFourth,d4\n";
+
+        TaskImportResultDto ndjsonResult = taskImportService.importTasks(
+                project.getId(), stream(ndjson), TaskImportService.Format.NDJSON, null);
+        TaskImportResultDto csvResult = taskImportService.importTasks(
+                project.getId(), stream(csv), TaskImportService.Format.CSV, null);
+
+        assertEquals(2, ndjsonResult.imported());
+        assertEquals(2L, ndjsonResult.errors().get(0).line());
+        assertEquals("Row is longer than 8192 characters", ndjsonResult.errors().get(0).message());
+        assertEquals(1, csvResult.imported());
+        assertEquals(1L, csvResult.errors().get(0).line());
+        assertEquals(List.of("First", "Third", "Fourth"), tasksOfProject().stream().map(Task::getTitle).toList());
+    }
+
+    // Import into a non existing project or with an invalid chunk size - excpected failure and excpection thrown
+    @Test
+    void testImportRejectsInvalidRequests() {
+        assertThrows(ResourceNotFoundException.class, () -> taskImportService.importTasks(
+                project.getId() + 1000, stream(""), TaskImportService.Format.NDJSON, null));
+        assertThrows(BadRequestException.class, () -> taskImportService.importTasks(
+                project.getId(), stream(""), TaskImportService.Format.NDJSON, 0));
+    }
+
+    private List<Task> tasksOfProject() {
+        return entityManager
+                .createQuery("select t from Task t where t.project.id = :id order by t.id", Task.class)
+                .setParameter("id", project.getId())
+                .getResultList();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,171 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.TaskSearchHitDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The index is fed after commit, so the tasks are written through the services and the test runs without a
+// transaction. Each test deletes its project again, which also removes its tasks from the index
+@DataJpaTest
+@Import({TaskSearchService.class, TaskSearchIndex.class, TaskService.class, TaskWriteBehindQueue.class,
+        ProjectService.class, RevisionSequence.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskSearchServiceTest {
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setup() {
+        Project project = new Project();
+        project.setName("Search");
+        project.setDescription("Search project");
+        projectId = projectService.createProject(project).id();
+    }
+
+    @AfterEach
+    void cleanup() {
+        projectService.deleteProject(projectId);
+    }
+
+    // Search - matches in title and description, more matching words rank higher
+    // ----------------------------------------------------------
+    @Test
+    void testSearchRanksBestMatchFirst() {
+        Long weak = create("Update invoice template", "Unrelated text");
+        Long strong = create("Invoice export broken", "The invoice export fails for large invoices");
+        create("Rotate keys", "Nothing to see here");
+
+        PagedResponse<TaskSearchHitDto> response = taskSearchService.searchTasks("invoice export", 0, 10);
+
+        List<Long> ids = response.getItems().stream().map(hit -> hit.task().id()).toList();
+        assertEquals(List.of(strong, weak), ids);
+        assertTrue(response.getItems().get(0).score() > response.getItems().get(1).score());
+        assertFalse(response.getHasNext());
+    }
+
+    @Test
+    void testSearchPaginates() {
+        for (int i = 0; i < 5; i++) {
+            create("Paging candidate " + i, "migration step " + i);
+        }
+
+        PagedResponse<TaskSearchHitDto> first = taskSearchService.searchTasks("migration", 0, 2);
+        PagedResponse<TaskSearchHitDto> last = taskSearchService.searchTasks("migration", 2, 2);
+
+        assertEquals(2, first.getItems().size());
+        assertTrue(first.getHasNext());
+        assertEquals(1, last.getItems().size());
+        assertFalse(last.getHasNext());
+        assertNull(first.getTotal());
+    }
+
+    // Query syntax is escaped - characters like ':' or '(' are not a parse error
+    @Test
+    void testSearchEscapesQuerySyntax() {
+        create("Deploy checklist", "Run release(v2) steps");
+
+        PagedResponse<TaskSearchHitDto> response = taskSearchService.searchTasks("checklist: (release", 0, 10);
+
+        assertEquals(1, response.getItems().size());
+    }
+
+    // Index after commit - updates and deletes are searchable once committed, rolled back ones never
+    // ----------------------------------------------------------
+    @Test
+    void testSearchFollowsCommittedWrites() {
+        Long taskId = create("Quarterly report", "Collect the numbers");
+
+        taskService.updateTask(taskId, task("Annual summary", "Collect the numbers"), null);
+
+        assertTrue(search("quarterly").isEmpty());
+        assertEquals(List.of(taskId), search("annual"));
+
+        taskService.deleteTask(taskId);
+
+        assertTrue(search("annual").isEmpty());
+    }
+
+    @Test
+    void testRolledBackUpdateKeepsIndexedText() {
+        Long taskId = create("Original wording", "Kept after rollback");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.updateTask(taskId, task("Discarded wording", "Never committed"), null);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(taskId), search("original"));
+        assertTrue(search("discarded").isEmpty());
+    }
+
+    @Test
+    void testRolledBackDeleteStaysSearchable() {
+        Long taskId = create("Survivor", "Delete is rolled back");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.deleteTask(taskId);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(taskId), search("survivor"));
+    }
+
+    // Blank query - excpected failure and excpection thrown
+    @Test
+    void testSearchRejectsBlankQuery() {
+        assertThrows(BadRequestException.class, () -> taskSearchService.searchTasks("  ", 0, 10));
+    }
+
+    // Offset beyond int range - excpected failure and excpection thrown, not a negative offset
+    @Test
+    void testSearchRejectsPageOverflow() {
+        assertThrows(BadRequestException.class,
+                () -> taskSearchService.searchTasks("login", Integer.MAX_VALUE / 50, 100));
+    }
+
+    private Long create(String title, String description) {
+        return taskService.createTask(projectId, task(title, description)).id();
+    }
+
+    private List<Long> search(String query) {
+        return taskSearchService.searchTasks(query, 0, 10).getItems().stream().map(hit -> hit.task().id()).toList();
+    }
+
+    private Task task(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(TaskStatus.TODO);
+        return task;
+    }
+}
@@ -0,0 +1,149 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.CountMode;
+import com.projectmanagementapi.dto.PagedResponse;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskService.class, TaskWriteBehindQueue.class, RevisionSequence.class, CacheConfig.class})
+class TaskServiceQueryCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Project project;
+
+    @BeforeEach
+    void setup() {
+        project = new Project();
+        project.setName("Project");
+        project.setDescription("Desc");
+        entityManager.persist(project);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    // Create task - counter UPDATE and task INSERT, the project row is never selected
+    // ----------------------------------------------------------
+    @Test
+    void testCreateTaskIssuesTwoStatements() {
+        // Warm up the pooled id sequence (the pooled optimizer reads it twice at start) so only the writes are measured
+        taskService.createTask(project.getId(), newTask("Warm up"));
+        taskService.createTask(project.getId(), newTask("Warm up"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TaskResponseDto created = taskService.createTask(project.getId(), newTask("Measured"));
+        entityManager.flush();
+
+        assertEquals(project.getId(), created.projectId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    // Task counters - kept in step with create, status transitions and delete
+    // ----------------------------------------------------------
+    @Test
+    void testTaskCountersFollowTaskWrites() {
+        TaskResponseDto first = taskService.createTask(project.getId(), newTask("First"));
+        TaskResponseDto second = taskService.createTask(project.getId(), newTask("Second"));
+        taskService.createTasks(project.getId(), List.of(newTask("Third"), newTask("Fourth")));
+        assertEquals(new TaskStatsDto(4, 0, 0), stats());
+
+        Task update = newTask("First");
+        update.setStatus(TaskStatus.IN_PROGRESS);
+        taskService.updateTask(first.id(), update, null);
+        assertEquals(new TaskStatsDto(3, 1, 0), stats());
+
+        taskService.updateProjectTaskStatuses(project.getId(), TaskStatus.TODO, TaskStatus.DONE);
+        assertEquals(new TaskStatsDto(0, 1, 3), stats());
+
+        taskService.updateTaskStatuses(Set.of(first.id(), second.id()), TaskStatus.TODO);
+        assertEquals(new TaskStatsDto(2, 0, 2), stats());
+
+        taskService.deleteTask(second.id());
+        assertEquals(new TaskStatsDto(1, 0, 2), stats());
+    }
+
+    // Listing tasks without the exact count - NONE is one query for size + 1 rows, ESTIMATED adds the counter lookup
+    // ----------------------------------------------------------
+    @Test
+    void testGetTasksForProjectSkipsCountQuery() {
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(project.getId(), newTask("Task " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        PagedResponse<TaskResponseDto> none =
+                taskService.getTasksForProject(project.getId(), TaskStatus.TODO, null, 0, 2, null, CountMode.NONE);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, none.getItems().size());
+        assertNull(none.getTotal());
+        assertTrue(none.getHasNext());
+
+        statistics.clear();
+        PagedResponse<TaskResponseDto> estimated = taskService.getTasksForProject(
+                project.getId(), TaskStatus.TODO, null, 1, 2, null, CountMode.ESTIMATED);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, estimated.getItems().size());
+        assertEquals(3L, estimated.getTotal());
+    }
+
+    // Create task for a non existing project - the counter UPDATE matches no row, surfaces as not found
+    // ----------------------------------------------------------
+    @Test
+    void testCreateTaskForMissingProject() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.createTask(project.getId() + 1000, newTask("Orphan")));
+    }
+
+    private TaskStatsDto stats() {
+        entityManager.flush();
+        entityManager.clear();
+        return projectRepository.findTaskStats(project.getId()).orElseThrow();
+    }
+
+    private Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        return task;
+    }
+}
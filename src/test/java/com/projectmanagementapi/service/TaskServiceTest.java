@@ -1,33 +1,59 @@
 package com.projectmanagementapi.service;
 
+import com.projectmanagementapi.dto.CountMode;
 import com.projectmanagementapi.dto.PagedResponse;
 import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.dto.TaskStatsDto;
+import com.projectmanagementapi.exception.BadRequestException;
+import com.projectmanagementapi.exception.PreconditionFailedException;
 import com.projectmanagementapi.exception.ResourceNotFoundException;
 import com.projectmanagementapi.model.Project;
 import com.projectmanagementapi.model.Task;
 import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.model.Tombstone;
 import com.projectmanagementapi.repository.ProjectRepository;
 import com.projectmanagementapi.repository.TaskRepository;
+import com.projectmanagementapi.repository.TombstoneRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class TaskServiceTest {
 
+    private static final long REVISION = 7L;
+
     @Mock
     private TaskRepository taskRepository;
 
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TaskWriteBehindQueue taskWriteBehindQueue;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RevisionSequence revisionSequence;
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -36,6 +62,7 @@ class TaskServiceTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        when(revisionSequence.current()).thenReturn(REVISION);
 
         project = new Project();
         project.setId(1L);
@@ -56,8 +83,10 @@ class TaskServiceTest {
         savedTask.setDescription("Testing create");
         savedTask.setStatus(TaskStatus.TODO);
         savedTask.setProject(project);
+        savedTask.setVersion(0L);
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.adjustTaskCounts(1L, 1, 0, 0, REVISION)).thenReturn(1);
+        when(projectRepository.getReferenceById(1L)).thenReturn(project);
         when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
 
         TaskResponseDto created = taskService.createTask(1L, task);
@@ -66,16 +95,60 @@ class TaskServiceTest {
         assertEquals(99L, created.id());
         assertEquals(TaskStatus.TODO, created.status());
         verify(taskRepository).save(any(Task.class));
+        verify(projectRepository).adjustTaskCounts(1L, 1, 0, 0, REVISION);
+        verify(projectRepository, never()).findById(anyLong());
     }
 
     // Create task for a non existing project- excpected failure and excpection thrown
     @Test
     void testCreateTask_ProjectNotFound() {
         Task task = new Task();
-        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        when(projectRepository.adjustTaskCounts(1L, 1, 0, 0, REVISION)).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> taskService.createTask(1L, task));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    // Create tasks in bulk
+    // -------------------------------------------------------
+    @Test
+    void testCreateTasks_Success() {
+        Task first = new Task();
+        first.setTitle("First");
+        Task second = new Task();
+        second.setTitle("Second");
+        second.setStatus(TaskStatus.DONE);
+
+        when(projectRepository.adjustTaskCounts(1L, 1, 0, 1, REVISION)).thenReturn(1);
+        when(projectRepository.getReferenceById(1L)).thenReturn(project);
+        when(taskRepository.saveAll(anyList())).thenAnswer(i -> {
+            List<Task> tasks = i.getArgument(0);
+            for (int n = 0; n < tasks.size(); n++) {
+                tasks.get(n).setId(100L + n);
+                tasks.get(n).setVersion(0L);
+            }
+            return tasks;
+        });
+
+        List<Long> ids = taskService.createTasks(1L, List.of(first, second));
+
+        assertEquals(List.of(100L, 101L), ids);
+        assertEquals(TaskStatus.TODO, first.getStatus());
+        assertEquals(TaskStatus.DONE, second.getStatus());
+        assertSame(project, second.getProject());
+        verify(projectRepository, times(1)).adjustTaskCounts(1L, 1, 0, 1, REVISION);
+        verify(projectRepository, never()).findById(anyLong());
+    }
+
+    // Create tasks for a non existing project- excpected failure and excpection thrown
+    @Test
+    void testCreateTasks_ProjectNotFound() {
+        when(projectRepository.adjustTaskCounts(1L, 1, 0, 0, REVISION)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.createTasks(1L, List.of(new Task())));
+        verify(taskRepository, never()).saveAll(anyList());
     }
 
     // Get task by id
@@ -116,7 +189,6 @@ class TaskServiceTest {
         t1.setProject(project);
         t1.setStatus(TaskStatus.TODO);
 
-        when(projectRepository.existsById(1L)).thenReturn(true);
         Page<Task> mockPage = new PageImpl<>(List.of(t1), PageRequest.of(0, 10), 1);
         when(taskRepository.findByProject_Id(eq(1L), any(PageRequest.class)))
                 .thenReturn(mockPage);
@@ -125,6 +197,142 @@ class TaskServiceTest {
 
         assertEquals(1, response.getItems().size());
         assertEquals(1L, response.getItems().get(0).id());
+        verify(projectRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void testGetTasksForProject_FilteredAndSorted() {
+        Page<Task> mockPage = new PageImpl<>(List.of(taskWithId(3L)), PageRequest.of(0, 10), 1);
+        when(taskRepository.findByProject_IdAndTaskStatusAndTitleStartingWith(
+                eq(1L), eq(TaskStatus.TODO), eq("Fix"), any(PageRequest.class)))
+                .thenReturn(mockPage);
+
+        PagedResponse<TaskResponseDto> response =
+                taskService.getTasksForProject(1L, TaskStatus.TODO, "Fix", 0, 10, "title,desc");
+
+        assertEquals(1, response.getItems().size());
+        verify(taskRepository).findByProject_IdAndTaskStatusAndTitleStartingWith(
+                1L, TaskStatus.TODO, "Fix",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title").and(Sort.by("id"))));
+        verify(taskRepository, never()).findByProject_Id(anyLong(), any());
+    }
+
+    @Test
+    void testGetTasksForProject_StatusOnly() {
+        when(taskRepository.findByProject_IdAndTaskStatus(eq(1L), eq(TaskStatus.DONE), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of(taskWithId(4L))));
+
+        taskService.getTasksForProject(1L, TaskStatus.DONE, null, 0, 10, null);
+
+        verify(taskRepository).findByProject_IdAndTaskStatus(1L, TaskStatus.DONE, PageRequest.of(0, 10, Sort.by("id")));
+    }
+
+    // Unknown sort field - excpected failure and excpection thrown
+    @Test
+    void testGetTasksForProject_InvalidSort() {
+        assertThrows(BadRequestException.class,
+                () -> taskService.getTasksForProject(1L, null, null, 0, 10, "description"));
+        assertThrows(BadRequestException.class,
+                () -> taskService.getTasksForProject(1L, null, null, 0, 10, "title,sideways"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    // Get tasks of a non existing project - the existence check only runs on an empty page
+    @Test
+    void testGetTasksForProject_ProjectNotFound() {
+        when(taskRepository.findByProject_Id(eq(1L), any(PageRequest.class)))
+                .thenReturn(Page.empty());
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getTasksForProject(1L, 0, 10));
+    }
+
+    // Count modes - ESTIMATED takes the total from the project counters, NONE only sets hasNext
+    @Test
+    void testGetTasksForProject_EstimatedCountFromCounters() {
+        when(taskRepository.findSliceByProject_IdAndTaskStatus(eq(1L), eq(TaskStatus.DONE), any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of(taskWithId(4L)), PageRequest.of(0, 10), false));
+        when(projectRepository.findTaskStats(1L)).thenReturn(Optional.of(new TaskStatsDto(5, 2, 1)));
+
+        PagedResponse<TaskResponseDto> response =
+                taskService.getTasksForProject(1L, TaskStatus.DONE, null, 0, 10, null, CountMode.ESTIMATED);
+
+        assertEquals(1L, response.getTotal());
+        assertNull(response.getHasNext());
+        verify(taskRepository, never()).findByProject_IdAndTaskStatus(anyLong(), any(), any());
+    }
+
+    @Test
+    void testGetTasksForProject_NoCount() {
+        when(taskRepository.findSliceByProject_IdAndTitleStartingWith(eq(1L), eq("Fix"), any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of(taskWithId(3L)), PageRequest.of(0, 1), true));
+
+        PagedResponse<TaskResponseDto> response =
+                taskService.getTasksForProject(1L, null, "Fix", 0, 1, null, CountMode.ESTIMATED);
+
+        // No counter covers a title prefix, so ESTIMATED falls back to NONE
+        assertNull(response.getTotal());
+        assertTrue(response.getHasNext());
+        verify(projectRepository, never()).findTaskStats(anyLong());
+    }
+
+    // Estimated count for a non existing project - excpected failure and excpection thrown
+    @Test
+    void testGetTasksForProject_EstimatedCountProjectNotFound() {
+        when(taskRepository.findSliceByProject_Id(eq(1L), any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+        when(projectRepository.findTaskStats(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getTasksForProject(1L, null, null, 0, 10, null, CountMode.ESTIMATED));
+    }
+
+    // Scroll tasks by cursor
+    // -------------------------------------------------------
+    @Test
+    void testScrollTasksForProject_FirstPage() {
+        when(taskRepository.findByProject_IdAndIdGreaterThanOrderByIdAsc(1L, 0L, Limit.of(3)))
+                .thenReturn(List.of(taskWithId(4L), taskWithId(7L), taskWithId(9L)));
+
+        PagedResponse<TaskResponseDto> response = taskService.scrollTasksForProject(1L, null, 2, false);
+
+        assertEquals(2, response.getItems().size());
+        assertNotNull(response.getNextCursor());
+        assertNull(response.getTotal());
+        verify(taskRepository, never()).countByProject_Id(anyLong());
+    }
+
+    @Test
+    void testScrollTasksForProject_NextPageUsesCursor() {
+        when(taskRepository.findByProject_IdAndIdGreaterThanOrderByIdAsc(eq(1L), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(taskWithId(4L), taskWithId(7L), taskWithId(9L)))
+                .thenReturn(List.of(taskWithId(9L)));
+        when(taskRepository.countByProject_Id(1L)).thenReturn(3L);
+
+        String cursor = taskService.scrollTasksForProject(1L, null, 2, false).getNextCursor();
+        PagedResponse<TaskResponseDto> response = taskService.scrollTasksForProject(1L, cursor, 2, true);
+
+        verify(taskRepository).findByProject_IdAndIdGreaterThanOrderByIdAsc(1L, 7L, Limit.of(3));
+        assertEquals(1, response.getItems().size());
+        assertNull(response.getNextCursor());
+        assertEquals(3L, response.getTotal());
+    }
+
+    @Test
+    void testScrollTasksForProject_InvalidCursor() {
+        assertThrows(BadRequestException.class,
+                () -> taskService.scrollTasksForProject(1L, "not-a-cursor", 10, false));
+    }
+
+    // Page size out of range - excpected failure and excpection thrown, nothing is read
+    @Test
+    void testScrollTasksForProject_InvalidSize() {
+        assertThrows(BadRequestException.class,
+                () -> taskService.scrollTasksForProject(1L, null, 0, false));
+        assertThrows(BadRequestException.class,
+                () -> taskService.scrollTasksForProject(1L, null, Integer.MAX_VALUE, false));
+        verifyNoInteractions(taskRepository);
     }
 
     // Update task
@@ -136,48 +344,167 @@ class TaskServiceTest {
         existing.setTitle("Old");
         existing.setDescription("Old desc");
         existing.setStatus(TaskStatus.TODO);
+        existing.setProject(project);
+        existing.setVersion(0L);
 
         Task updated = new Task();
         updated.setTitle("New");
         updated.setDescription("New desc");
         updated.setStatus(TaskStatus.DONE);
 
-        when(taskRepository.findById(10L)).thenReturn(Optional.of(existing));
-        when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+        when(taskRepository.findWithLockById(10L)).thenReturn(Optional.of(existing));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(i -> i.getArgument(0));
 
-        TaskResponseDto saved = taskService.updateTask(10L, updated);
+        TaskResponseDto saved = taskService.updateTask(10L, updated, null);
 
         assertEquals("New", saved.title());
         assertEquals("New desc", saved.description());
         assertEquals(TaskStatus.DONE, saved.status());
+        verify(projectRepository).adjustTaskCounts(1L, -1, 0, 1, REVISION);
+    }
+
+    // Same status - counters unchanged, the empty delta still bumps the project version
+    @Test
+    void testUpdateTask_SameStatusKeepsCounters() {
+        Task existing = taskWithId(10L);
+
+        Task updated = new Task();
+        updated.setTitle("New");
+        updated.setStatus(TaskStatus.TODO);
+
+        when(taskRepository.findWithLockById(10L)).thenReturn(Optional.of(existing));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+        taskService.updateTask(10L, updated, null);
+
+        verify(projectRepository).adjustTaskCounts(1L, 0, 0, 0, REVISION);
+    }
+
+    @Test
+    void testUpdateTask_MatchingVersion() {
+        Task existing = taskWithId(10L);
+        existing.setVersion(3L);
+
+        when(taskRepository.findWithLockById(10L)).thenReturn(Optional.of(existing));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+        TaskResponseDto saved = taskService.updateTask(10L, new Task(), 3L);
+
+        assertEquals(3L, saved.version());
+    }
+
+    // Update with a stale version - excpected failure and excpection thrown
+    @Test
+    void testUpdateTask_StaleVersion() {
+        Task existing = taskWithId(10L);
+        existing.setVersion(4L);
+
+        when(taskRepository.findWithLockById(10L)).thenReturn(Optional.of(existing));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTask(10L, new Task(), 3L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        verify(projectRepository, never()).adjustTaskCounts(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    // Version lookup for conditional GET
+    // -------------------------------------------------------
+    @Test
+    void testGetTaskVersion() {
+        when(taskRepository.findVersionById(5L)).thenReturn(Optional.of(2L));
+
+        assertEquals(2L, taskService.getTaskVersion(5L));
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    // Version of a non existing task - excpected failure and excpection thrown
+    @Test
+    void testGetTaskVersion_NotFound() {
+        when(taskRepository.findVersionById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskVersion(5L));
     }
 
     // Update non existing task- excpected failure and excpection thrown
     @Test
     void testUpdateTask_NotFound() {
         Task updated = new Task();
-        when(taskRepository.findById(55L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithLockById(55L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
-                () -> taskService.updateTask(55L, updated));
+                () -> taskService.updateTask(55L, updated, null));
+    }
+
+    // Bulk status update
+    // -------------------------------------------------------
+    @Test
+    void testUpdateTaskStatuses() {
+        when(taskRepository.findProjectIdsByTaskIds(Set.of(1L, 2L))).thenReturn(List.of(1L));
+        when(taskRepository.updateStatusByIds(Set.of(1L, 2L), TaskStatus.DONE, REVISION)).thenReturn(2);
+
+        assertEquals(2, taskService.updateTaskStatuses(Set.of(1L, 2L), TaskStatus.DONE));
+        verify(taskRepository, never()).findById(anyLong());
+        verify(projectRepository).recountTaskCounts(List.of(1L), REVISION);
+    }
+
+    @Test
+    void testUpdateProjectTaskStatuses() {
+        when(taskRepository.updateStatusByProject(1L, TaskStatus.IN_PROGRESS, TaskStatus.DONE, REVISION)).thenReturn(3);
+
+        assertEquals(3, taskService.updateProjectTaskStatuses(1L, TaskStatus.IN_PROGRESS, TaskStatus.DONE));
+        verify(projectRepository, never()).existsById(anyLong());
+        verify(projectRepository).adjustTaskCounts(1L, 0, -3, 3, REVISION);
+        verify(projectRepository, never()).recountTaskCounts(anyList(), anyLong());
+    }
+
+    @Test
+    void testUpdateProjectTaskStatuses_AnyStatusRecountsCounters() {
+        when(taskRepository.updateStatusByProject(1L, null, TaskStatus.DONE, REVISION)).thenReturn(4);
+
+        assertEquals(4, taskService.updateProjectTaskStatuses(1L, null, TaskStatus.DONE));
+        verify(projectRepository).recountTaskCounts(List.of(1L), REVISION);
+    }
+
+    // Bulk status update for a non existing project- excpected failure and excpection thrown
+    @Test
+    void testUpdateProjectTaskStatuses_ProjectNotFound() {
+        when(taskRepository.updateStatusByProject(1L, null, TaskStatus.DONE, REVISION)).thenReturn(0);
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.updateProjectTaskStatuses(1L, null, TaskStatus.DONE));
     }
 
     // Delete task
     // -------------------------------------------------------
     @Test
     void testDeleteTask_Success() {
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        Task task = taskWithId(1L);
+        when(taskRepository.findWithLockById(1L)).thenReturn(Optional.of(task));
 
         taskService.deleteTask(1L);
 
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).delete(task);
+        verify(projectRepository).adjustTaskCounts(1L, -1, 0, 0, REVISION);
+        verify(tombstoneRepository).save(argThat(tombstone -> tombstone.getEntityType() == Tombstone.EntityType.TASK
+                && tombstone.getEntityId() == 1L && tombstone.getRevision() == REVISION));
     }
     // Delete non existing task- excpected failure and excpection thrown
     @Test
     void testDeleteTask_NotFound() {
-        when(taskRepository.existsById(77L)).thenReturn(false);
+        when(taskRepository.findWithLockById(77L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
                 () -> taskService.deleteTask(77L));
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    private Task taskWithId(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setProject(project);
+        task.setStatus(TaskStatus.TODO);
+        task.setVersion(0L);
+        return task;
     }
 }
@@ -0,0 +1,322 @@
+package com.projectmanagementapi.service;
+
+import com.projectmanagementapi.config.CacheConfig;
+import com.projectmanagementapi.dto.TaskResponseDto;
+import com.projectmanagementapi.exception.ResourceNotFoundException;
+import com.projectmanagementapi.model.Project;
+import com.projectmanagementapi.model.Task;
+import com.projectmanagementapi.model.TaskStatus;
+import com.projectmanagementapi.repository.ProjectRepository;
+import com.projectmanagementapi.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// The flusher interval is an hour, so queued updates are only written by the explicit flushes below.
+// Flushes commit their own transactions, so the test itself runs without one. The pool has a single connection:
+// a write that held one while its flush asked for another would time out instead of passing
+@DataJpaTest(properties = {
+        "app.tasks.write-behind.enabled=true",
+        "app.tasks.write-behind.flush-interval-ms=3600000",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TaskWriteBehindQueue.class, TaskService.class, RevisionSequence.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskWriteBehindQueueTest {
+
+    @Autowired
+    private TaskWriteBehindQueue queue;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RevisionSequence revisionSequence;
+
+    private Project project;
+
+    @BeforeEach
+    void setup() {
+        project = new Project();
+        project.setName("Write-behind");
+        project.setDescription("Coalesced updates");
+        project = projectRepository.save(project);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.flush();
+        taskRepository.deleteTasksByProjectId(project.getId());
+        projectRepository.deleteProjectById(project.getId());
+    }
+
+    // Several updates to one task - one row write with the last value, counters moved once
+    // ----------------------------------------------------------
+    @Test
+    void testUpdatesToTheSameTaskAreCoalesced() {
+        TaskResponseDto task = taskService.createTask(project.getId(), newTask("Original", TaskStatus.TODO));
+
+        queue.submit(task.id(), newTask("First", TaskStatus.IN_PROGRESS));
+        queue.submit(task.id(), newTask("Second", TaskStatus.DONE));
+        queue.submit(task.id(), newTask("Last", TaskStatus.IN_PROGRESS));
+        assertEquals(1, queue.pendingCount());
+
+        // Nothing is written before the flush
+        Task stored = taskRepository.findById(task.id()).orElseThrow();
+        assertEquals("Original", stored.getTitle());
+        assertEquals(task.version(), stored.getVersion());
+
+        queue.flush();
+
+        assertEquals(0, queue.pendingCount());
+        stored = taskRepository.findById(task.id()).orElseThrow();
+        assertEquals("Last", stored.getTitle());
+        assertEquals(TaskStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals(task.version() + 1, stored.getVersion());
+
+        Project counted = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(0, counted.getTodoCount());
+        assertEquals(1, counted.getInProgressCount());
+        assertEquals(0, counted.getDoneCount());
+    }
+
+    // Updates to different tasks of different statuses - one batch, exact counters
+    // ----------------------------------------------------------
+    @Test
+    void testFlushWritesAllPendingTasks() {
+        TaskResponseDto first = taskService.createTask(project.getId(), newTask("First", TaskStatus.TODO));
+        TaskResponseDto second = taskService.createTask(project.getId(), newTask("Second", TaskStatus.TODO));
+        TaskResponseDto third = taskService.createTask(project.getId(), newTask("Third", TaskStatus.DONE));
+
+        queue.submit(first.id(), newTask("First done", TaskStatus.DONE));
+        queue.submit(second.id(), newTask("Second renamed", TaskStatus.TODO));
+        queue.submit(third.id(), newTask("Third reopened", TaskStatus.IN_PROGRESS));
+        queue.flush();
+
+        assertEquals("First done", taskRepository.findById(first.id()).orElseThrow().getTitle());
+        assertEquals("Second renamed", taskRepository.findById(second.id()).orElseThrow().getTitle());
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(third.id()).orElseThrow().getStatus());
+
+        Project counted = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(1, counted.getTodoCount());
+        assertEquals(1, counted.getInProgressCount());
+        assertEquals(1, counted.getDoneCount());
+    }
+
+    // Flushed tasks are evicted from the DTO cache, reads see the new value
+    // ----------------------------------------------------------
+    @Test
+    void testFlushEvictsCachedTask() {
+        TaskResponseDto task = taskService.createTask(project.getId(), newTask("Cached", TaskStatus.TODO));
+        taskService.getTaskById(task.id());
+
+        queue.submit(task.id(), newTask("Changed", TaskStatus.TODO));
+        assertEquals("Cached", taskService.getTaskById(task.id()).title());
+
+        queue.flush();
+        assertEquals("Changed", taskService.getTaskById(task.id()).title());
+        assertNull(cacheManager.getCache(CacheConfig.PROJECTS).get(project.getId()));
+    }
+
+    @Test
+    void testSubmitUnknownTask() {
+        // excpected failure and excpection thrown
+        assertThrows(ResourceNotFoundException.class,
+                () -> queue.submit(999_999L, newTask("Nobody", TaskStatus.TODO)));
+        assertEquals(0, queue.pendingCount());
+    }
+
+    // A task deleted while its update is queued - the update is dropped, the rest of the batch is written
+    // ----------------------------------------------------------
+    @Test
+    void testQueuedUpdateOfDeletedTaskIsDropped() {
+        TaskResponseDto deleted = taskService.createTask(project.getId(), newTask("Deleted", TaskStatus.TODO));
+        TaskResponseDto kept = taskService.createTask(project.getId(), newTask("Kept", TaskStatus.TODO));
+
+        queue.submit(deleted.id(), newTask("Too late", TaskStatus.DONE));
+        queue.submit(kept.id(), newTask("Kept done", TaskStatus.DONE));
+        taskService.deleteTask(deleted.id());
+        queue.flush();
+
+        assertFalse(taskRepository.existsById(deleted.id()));
+        assertEquals("Kept done", taskRepository.findById(kept.id()).orElseThrow().getTitle());
+
+        Project counted = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(0, counted.getTodoCount());
+        assertEquals(1, counted.getDoneCount());
+    }
+
+    // Synchronous writes flush the queue first, a queued update cannot land after a later bulk change
+    // ----------------------------------------------------------
+    @Test
+    void testSynchronousWritesFlushTheQueueFirst() {
+        TaskResponseDto task = taskService.createTask(project.getId(), newTask("Queued", TaskStatus.TODO));
+
+        queue.submit(task.id(), newTask("Queued", TaskStatus.IN_PROGRESS));
+        taskService.updateTaskStatuses(Set.of(task.id()), TaskStatus.DONE);
+
+        assertEquals(0, queue.pendingCount());
+        assertEquals(TaskStatus.DONE, taskRepository.findById(task.id()).orElseThrow().getStatus());
+
+        queue.submit(task.id(), newTask("Queued again", TaskStatus.TODO));
+        TaskResponseDto updated = taskService.updateTask(task.id(), newTask("Synchronous", TaskStatus.DONE), null);
+
+        assertEquals(0, queue.pendingCount());
+        assertEquals("Synchronous", updated.title());
+        assertEquals(TaskStatus.DONE, updated.status());
+
+        Project counted = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(0, counted.getTodoCount());
+        assertEquals(0, counted.getInProgressCount());
+        assertEquals(1, counted.getDoneCount());
+    }
+
+    // A transient failure puts the batch back and ends the flush, the batch is not taken again in a loop
+    // ----------------------------------------------------------
+    @Test
+    void testTransientFailureRequeuesBatchAndStops() {
+        TaskRepository locked = mock(TaskRepository.class);
+        when(locked.findVersionById(anyLong())).thenReturn(Optional.of(0L));
+        when(locked.findAllWithLockByIdIn(any())).thenThrow(new CannotAcquireLockException("lock timeout"));
+        TaskWriteBehindQueue retrying = new TaskWriteBehindQueue(locked, projectRepository, cacheManager,
+                transactionManager, eventPublisher, revisionSequence, false, 3_600_000, 500, 10_000);
+
+        retrying.submit(1L, newTask("Retried", TaskStatus.DONE));
+        retrying.submit(2L, newTask("Retried", TaskStatus.DONE));
+
+        assertThrows(CannotAcquireLockException.class, retrying::flush);
+        assertEquals(2, retrying.pendingCount());
+        verify(locked, times(1)).findAllWithLockByIdIn(any());
+    }
+
+    // The flusher backs off after a transient failure instead of retrying on every tick
+    // ----------------------------------------------------------
+    @Test
+    void testFlusherBacksOffAfterTransientFailure() {
+        TaskRepository locked = mock(TaskRepository.class);
+        when(locked.findVersionById(anyLong())).thenReturn(Optional.of(0L));
+        when(locked.findAllWithLockByIdIn(any())).thenThrow(new CannotAcquireLockException("lock timeout"));
+        TaskWriteBehindQueue retrying = new TaskWriteBehindQueue(locked, projectRepository, cacheManager,
+                transactionManager, eventPublisher, revisionSequence, false, 3_600_000, 500, 10_000);
+
+        retrying.submit(1L, newTask("Retried", TaskStatus.DONE));
+        retrying.flushQuietly();
+        retrying.flushQuietly();
+        retrying.flushQuietly();
+
+        assertEquals(1, retrying.pendingCount());
+        verify(locked, times(1)).findAllWithLockByIdIn(any());
+    }
+
+    // Any other failure - the batch is retried task by task, only the failing update is dropped and counted
+    // ----------------------------------------------------------
+    @Test
+    void testFailingUpdateIsIsolatedAndCounted() {
+        TaskResponseDto good = taskService.createTask(project.getId(), newTask("Good", TaskStatus.TODO));
+        TaskResponseDto bad = taskService.createTask(project.getId(), newTask("Bad", TaskStatus.TODO));
+
+        TaskRepository failing = mock(TaskRepository.class);
+        when(failing.findVersionById(anyLong())).thenReturn(Optional.of(0L));
+        when(failing.findAllWithLockByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(bad.id())) {
+                throw new DataIntegrityViolationException("constraint violated");
+            }
+            return taskRepository.findAllById(ids);
+        });
+        TaskWriteBehindQueue isolating = new TaskWriteBehindQueue(failing, projectRepository, cacheManager,
+                transactionManager, eventPublisher, revisionSequence, false, 3_600_000, 500, 10_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        isolating.bindTo(registry);
+
+        isolating.submit(good.id(), newTask("Good done", TaskStatus.DONE));
+        isolating.submit(bad.id(), newTask("Bad done", TaskStatus.DONE));
+        isolating.flush();
+
+        assertEquals(0, isolating.pendingCount());
+        assertEquals(1.0, registry.get("app.tasks.write_behind.written").counter().count());
+        assertEquals(1.0, registry.get("app.tasks.write_behind.dropped").tag("reason", "failed").counter().count());
+        assertEquals(0.0, registry.get("app.tasks.write_behind.dropped").tag("reason", "deleted").counter().count());
+    }
+
+    // Shutdown writes whatever is still pending
+    // ----------------------------------------------------------
+    @Test
+    void testShutdownFlushesPendingUpdates() throws InterruptedException {
+        TaskResponseDto task = taskService.createTask(project.getId(), newTask("Before shutdown", TaskStatus.TODO));
+
+        TaskWriteBehindQueue stopping = new TaskWriteBehindQueue(taskRepository, projectRepository, cacheManager,
+                transactionManager, eventPublisher, revisionSequence, true, 3_600_000, 500, 10_000);
+        stopping.submit(task.id(), newTask("Written on shutdown", TaskStatus.DONE));
+        stopping.shutdown();
+
+        assertEquals(0, stopping.pendingCount());
+        assertEquals("Written on shutdown", taskRepository.findById(task.id()).orElseThrow().getTitle());
+    }
+
+    // A full queue makes the submitting thread flush before its update is queued
+    // ----------------------------------------------------------
+    @Test
+    void testFullQueueIsFlushedBySubmitter() throws InterruptedException {
+        TaskResponseDto first = taskService.createTask(project.getId(), newTask("First", TaskStatus.TODO));
+        TaskResponseDto second = taskService.createTask(project.getId(), newTask("Second", TaskStatus.TODO));
+
+        TaskWriteBehindQueue small = new TaskWriteBehindQueue(taskRepository, projectRepository, cacheManager,
+                transactionManager, eventPublisher, revisionSequence, false, 3_600_000, 500, 1);
+        small.submit(first.id(), newTask("First updated", TaskStatus.TODO));
+        small.submit(second.id(), newTask("Second updated", TaskStatus.TODO));
+
+        assertEquals(1, small.pendingCount());
+        assertEquals("First updated", taskRepository.findById(first.id()).orElseThrow().getTitle());
+        assertEquals("Second", taskRepository.findById(second.id()).orElseThrow().getTitle());
+
+        small.shutdown();
+        assertEquals("Second updated", taskRepository.findById(second.id()).orElseThrow().getTitle());
+    }
+
+    private Task newTask(String title, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("desc");
+        task.setStatus(status);
+        return task;
+    }
+}